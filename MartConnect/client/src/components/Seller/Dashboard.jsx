@@ -2,7 +2,7 @@ import React, { useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import SellerHeader from "./Header";
 import Footer from "./Footer";
-import { getSellerOrders } from "../../services/orderDetails";
+import { getSellerOrders, getSellerStatusTotals } from "../../services/orderDetails";
 
 const Dashboard = () => {
   const navigate = useNavigate();
@@ -30,54 +30,27 @@ const Dashboard = () => {
   const loadDashboardData = async (sellerId) => {
     try {
       setLoading(true);
-      const orders = await getSellerOrders(sellerId);
-      
-      if (Array.isArray(orders)) {
-        // Calculate statistics
-        const totalOrders = orders.length;
-        
-        // Filter orders by payment status (handle both JSON and backend formats)
-        const pendingOrders = orders.filter(order => {
-          const status = order.payment_status || order.paymentStatus;
-          return status === 'PENDING' || status === 'Pending';
-        }).length;
-        
-        const successfulOrders = orders.filter(order => {
-          const status = order.payment_status || order.paymentStatus;
-          return status === 'PAID' || status === 'Paid';
-        }).length;
-        
-        const failedOrders = orders.filter(order => {
-          const status = order.payment_status || order.paymentStatus;
-          return status === 'FAILED' || status === 'CANCELLED' || 
-                 status === 'Failed' || status === 'Cancelled';
-        }).length;
-        
-        // Calculate total revenue from successful orders
-        const totalRevenue = orders
-          .filter(order => {
-            const status = order.payment_status || order.paymentStatus;
-            return status === 'PAID' || status === 'Paid';
-          })
-          .reduce((sum, order) => {
-            const amount = parseFloat(order.total_amount || order.totalAmount || 0);
-            return sum + amount;
-          }, 0);
+      // Tiles come from per-status totals and the table from the first page of summaries,
+      // so the dashboard never downloads the seller's whole order history
+      const [totals, recent] = await Promise.all([
+        getSellerStatusTotals(sellerId),
+        getSellerOrders(sellerId, 0, 5)
+      ]);
+
+      const sumFor = (statuses, field) => totals
+        .filter(total => statuses.includes(total.paymentStatus))
+        .reduce((sum, total) => sum + Number(total[field] || 0), 0);
 
-        setStats({
-          totalOrders,
-          pendingOrders,
-          successfulOrders,
-          failedOrders,
-          totalRevenue: totalRevenue.toFixed(2)
-        });
+      setStats({
+        totalOrders: totals.reduce((sum, total) => sum + Number(total.orderCount || 0), 0),
+        pendingOrders: sumFor(['PENDING'], 'orderCount'),
+        successfulOrders: sumFor(['PAID'], 'orderCount'),
+        failedOrders: sumFor(['FAILED', 'CANCELLED'], 'orderCount'),
+        // revenue counts successful orders only
+        totalRevenue: sumFor(['PAID'], 'totalAmount').toFixed(2)
+      });
 
-        // Get recent orders (last 5)
-        const recent = orders
-          .sort((a, b) => new Date(b.order_date || b.orderDate) - new Date(a.order_date || a.orderDate))
-          .slice(0, 5);
-        setRecentOrders(recent);
-      }
+      setRecentOrders(recent.orders);
     } catch (error) {
       // Error loading dashboard data
     } finally {
@@ -257,10 +230,7 @@ const Dashboard = () => {
                           <tr key={order.order_id || order.orderId}>
                             <td>{order.order_id || order.orderId}</td>
                             <td>
-                              {order.customer ? 
-                                `${order.customer.first_name || order.customer.firstName} ${order.customer.last_name || order.customer.lastName}` : 
-                                'Unknown'
-                              }
+                              {order.customerName || 'Unknown'}
                             </td>
                             <td>₹{order.total_amount || order.totalAmount || 0}</td>
                             <td>
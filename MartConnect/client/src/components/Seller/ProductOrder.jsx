@@ -2,7 +2,7 @@ import React, { useEffect, useState } from "react";
 import { useLocation, useNavigate } from "react-router-dom";
 import SellerHeader from "./Header";
 import Footer from "./Footer";
-import { getSellerOrders } from "../../services/orderDetails";
+import { getOrderById, getSellerOrders } from "../../services/orderDetails";
 
 const OrderDetail = () => {
   const navigate = useNavigate();
@@ -16,6 +16,11 @@ const OrderDetail = () => {
   const [showOrderList, setShowOrderList] = useState(true); // Changed to true to show order list by default
   const [detailedOrders, setDetailedOrders] = useState([]);
   const [expandedOrderId, setExpandedOrderId] = useState(null);
+  const [orderDetails, setOrderDetails] = useState({});
+  const [sellerId, setSellerId] = useState(null);
+  const [nextPage, setNextPage] = useState(0);
+  const [hasMore, setHasMore] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     const seller = JSON.parse(sessionStorage.getItem('seller')) || JSON.parse(localStorage.getItem('seller'));
@@ -25,51 +30,58 @@ const OrderDetail = () => {
       return;
     }
 
-    async function load() {
-      // Backend processing logic
-      const sellerOrders = await getSellerOrders(seller.seller_id);
-      
-      const detailed = sellerOrders.map(order => {
-        // Extract customer info from backend order
-        const customer = order.customer ? {
-          customer_id: order.customer.customerId,
-          first_name: order.customer.firstName,
-          last_name: order.customer.lastName,
-          email: order.customer.email,
-          phone: order.customer.phone,
-          address: order.customer.address
-        } : null;
-        
-        // Extract order items from backend order
-        const items = order.orderItems ? order.orderItems.map(item => ({
-          order_item_id: item.orderItemId,
-          order_id: order.orderId,
-          product_id: item.product?.productId,
-          product_name: item.product?.name || 'Unknown Product',
-          quantity: item.quantity,
-          price_per_unit: item.pricePerUnit,
-          price: item.pricePerUnit
-        })) : [];
-        
-        return {
-          order_id: order.orderId,
-          customer_id: order.customer?.customerId,
-          seller_id: order.seller?.sellerId,
-          total_amount: order.totalAmount,
-          delivery_charge: 0,
-          payment_status: order.paymentStatus,
-          order_date: order.orderDate,
-          transaction_id: order.transactionId,
-          customer,
-          items,
-        };
-      });
-      setDetailedOrders(detailed);
-      setLoading(false);
-    }
-    load();
+    setSellerId(seller.seller_id);
+    loadOrders(seller.seller_id, 0);
   }, [navigate]); // Removed orderId dependency since we're showing all orders
 
+  // One page of flat summaries; items and contact details load when a row is opened
+  const loadOrders = async (id, page) => {
+    if (page > 0) setLoadingMore(true);
+    const result = await getSellerOrders(id, page);
+    const rows = result.orders.map(order => ({
+      order_id: order.orderId,
+      customer_id: order.customerId,
+      customer_name: order.customerName,
+      customer_address: order.customerAddress,
+      total_amount: order.totalAmount,
+      payment_status: order.paymentStatus,
+      order_date: order.orderDate,
+      transaction_id: order.transactionId,
+      item_count: order.itemCount,
+    }));
+    setDetailedOrders(prev => (page === 0 ? rows : [...prev, ...rows]));
+    setNextPage(page + 1);
+    setHasMore(result.hasMore);
+    setLoading(false);
+    setLoadingMore(false);
+  };
+
+  const toggleOrder = async (id) => {
+    if (expandedOrderId === id) {
+      setExpandedOrderId(null);
+      return;
+    }
+    setExpandedOrderId(id);
+    if (orderDetails[id]) return;
+
+    const order = await getOrderById(id);
+    if (!order) return;
+    const customer = order.customer ? {
+      first_name: order.customer.firstName,
+      last_name: order.customer.lastName,
+      email: order.customer.email,
+      phone: order.customer.phone,
+      address: order.customer.address
+    } : null;
+    const items = order.orderItems ? order.orderItems.map(item => ({
+      order_item_id: item.orderItemId,
+      product_name: item.product?.name || item.productName || 'Unknown Product',
+      quantity: item.quantity,
+      price: item.pricePerUnit
+    })) : [];
+    setOrderDetails(prev => ({ ...prev, [id]: { customer, items } }));
+  };
+
   const handlePriceChange = (index, value) => {
     const newItems = [...orderItems];
     newItems[index].price = Number(value);
@@ -112,15 +124,17 @@ const OrderDetail = () => {
                 </tr>
               </thead>
               <tbody>
-                {detailedOrders.map(order => (
+                {detailedOrders.map(order => {
+                  const details = orderDetails[order.order_id];
+                  return (
                   <React.Fragment key={order.order_id}>
                   <tr>
                     <td>{order.order_id}</td>
-                    <td>{order.customer ? `${order.customer.first_name} ${order.customer.last_name}` : 'Unknown'}</td>
+                    <td>{order.customer_name || 'Unknown'}</td>
                     <td>
-                      {order.customer?.address ? (
+                      {order.customer_address ? (
                         <div style={{ maxWidth: '200px', wordWrap: 'break-word' }}>
-                          {order.customer.address}
+                          {order.customer_address}
                         </div>
                       ) : (
                         <span className="text-muted">No address provided</span>
@@ -131,7 +145,7 @@ const OrderDetail = () => {
                     <td>
                       <button
                         className="btn btn-sm btn-outline-primary"
-                        onClick={() => setExpandedOrderId(expandedOrderId === order.order_id ? null : order.order_id)}
+                        onClick={() => toggleOrder(order.order_id)}
                       >
                         {expandedOrderId === order.order_id ? 'Hide' : 'View'} Items
                       </button>
@@ -140,20 +154,24 @@ const OrderDetail = () => {
                   {expandedOrderId === order.order_id && (
                     <tr>
                       <td colSpan={6}>
-                        {order.customer && (
+                        {!details ? (
+                          <span className="text-muted">Loading items...</span>
+                        ) : (
+                        <>
+                        {details.customer && (
                           <div className="mb-3">
                             <h6>Customer Information:</h6>
                             <div className="row">
                               <div className="col-md-6">
-                                <strong>Name:</strong> {order.customer.first_name} {order.customer.last_name}<br />
-                                <strong>Email:</strong> {order.customer.email}<br />
-                                <strong>Phone:</strong> {order.customer.phone}
+                                <strong>Name:</strong> {details.customer.first_name} {details.customer.last_name}<br />
+                                <strong>Email:</strong> {details.customer.email}<br />
+                                <strong>Phone:</strong> {details.customer.phone}
                               </div>
                               <div className="col-md-6">
                                 <strong>Delivery Address:</strong><br />
-                                {order.customer.address ? (
+                                {details.customer.address ? (
                                   <div>
-                                    {order.customer.address}
+                                    {details.customer.address}
                                   </div>
                                 ) : (
                                   <span className="text-muted">No address provided</span>
@@ -173,7 +191,7 @@ const OrderDetail = () => {
                             </tr>
                           </thead>
                           <tbody>
-                            {order.items.map(item => (
+                            {details.items.map(item => (
                               <tr key={item.order_item_id}>
                                 <td>{item.product_name}</td>
                                 <td>{item.quantity}</td>
@@ -183,14 +201,28 @@ const OrderDetail = () => {
                             ))}
                           </tbody>
                         </table>
+                        </>
+                        )}
                       </td>
                     </tr>
                   )}
                   </React.Fragment>
-                ))}
+                  );
+                })}
               </tbody>
             </table>
           )}
+          {hasMore && (
+            <div className="text-center">
+              <button
+                className="btn btn-outline-secondary"
+                onClick={() => loadOrders(sellerId, nextPage)}
+                disabled={loadingMore}
+              >
+                {loadingMore ? 'Loading...' : 'Load more orders'}
+              </button>
+            </div>
+          )}
         </div>
         <Footer />
       </div>
@@ -2,7 +2,7 @@ import React, { useEffect, useState } from "react";
 import CustomerHeader from "./Header";
 import CustomerFooter from "./Footer";
 import { useNavigate } from "react-router-dom";
-import { getAllProducts } from "../../services/productService";
+import { getProductPage } from "../../services/productService";
 import { toast } from "react-toastify";
 
 function CustomerHome() {
@@ -10,51 +10,61 @@ function CustomerHome() {
   const [search, setSearch] = useState(""); //search by product name
   const [category, setCategory] = useState(""); //filter category as per selected category in category dropdown
   const [categories, setCategories] = useState([]); //fetch categories from all product available product in setProduct
+  const [nextCursor, setNextCursor] = useState(null); //cursor of the next product page, null on the last page
+  const [loadingMore, setLoadingMore] = useState(false);
   const navigate = useNavigate(); //
 
-  // Fetch all products and categories
-  useEffect(() => {
-    const loadProducts = async () => {
-      try {
-        const result = await getAllProducts();
+  // Fetch one page of products and append it; categories grow with the loaded products
+  const loadProducts = async (cursor) => {
+    try {
+      const { products: result, nextCursor: next } = await getProductPage(cursor);
+      
+      if (!result || !Array.isArray(result)) {
+        toast.error("Failed to load products - invalid data format");
+        return;
+      }
+      
+      // Validate that products have required fields (handle both backend and frontend field names)
+      const validProducts = result.filter(product => {
+        // Check for backend field names first, then frontend fallback
+        const hasSellerId = product.sellerId || product.seller_id;
+        const hasProductId = product.productId || product.product_id;
         
-        if (!result || !Array.isArray(result)) {
-          toast.error("Failed to load products - invalid data format");
-          return;
+        if (!hasSellerId) {
+          return false;
         }
-        
-        // Validate that products have required fields (handle both backend and frontend field names)
-        const validProducts = result.filter(product => {
-          // Check for backend field names first, then frontend fallback
-          const hasSellerId = product.sellerId || product.seller_id;
-          const hasProductId = product.productId || product.product_id;
-          
-          if (!hasSellerId) {
-            return false;
-          }
-          if (!hasProductId) {
-            return false;
-          }
-          return true;
-        });
-        
-        // If no valid products found, use all products as fallback
-        const productsToShow = validProducts.length > 0 ? validProducts : result;
-        
-        setProducts(productsToShow);
-        // Extract unique categories (handle both backend and frontend field names)
-        const uniqueCategories = Array.from(new Set(productsToShow.map(p => {
-          // Backend returns 'category' as the category name
-          return p.category || p.category_name || p.categoryName;
-        }).filter(cat => cat))); // Filter out null/undefined values
-        setCategories(uniqueCategories); //for category dropdown
-      } catch (err) {
-        toast.error("Failed to load products: " + err.message);
-      }
-    };
+        if (!hasProductId) {
+          return false;
+        }
+        return true;
+      });
+      
+      // If no valid products found, use all products as fallback
+      const productsToShow = validProducts.length > 0 ? validProducts : result;
+      
+      setProducts(prev => cursor ? [...prev, ...productsToShow] : productsToShow);
+      setNextCursor(next);
+      // Extract unique categories (handle both backend and frontend field names)
+      const pageCategories = productsToShow.map(p => {
+        // Backend returns 'category' as the category name
+        return p.category || p.category_name || p.categoryName;
+      }).filter(cat => cat); // Filter out null/undefined values
+      setCategories(prev => Array.from(new Set([...(cursor ? prev : []), ...pageCategories]))); //for category dropdown
+    } catch (err) {
+      toast.error("Failed to load products: " + err.message);
+    }
+  };
+
+  useEffect(() => {
     loadProducts();
   }, []);
 
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    await loadProducts(nextCursor);
+    setLoadingMore(false);
+  };
+
   // Map seller_id to shop_name for quick lookup (handle both frontend and backend sellers)
   const sellerIdToShopName = React.useMemo(() => {
     const map = {};
@@ -224,6 +234,14 @@ function CustomerHome() {
             </div>
           )}
         </div>
+
+        {nextCursor && (
+          <div className="text-center mt-4">
+            <button className="btn btn-outline-primary" onClick={handleLoadMore} disabled={loadingMore}>
+              {loadingMore ? "Loading..." : "Load more products"}
+            </button>
+          </div>
+        )}
       </main>
       <CustomerFooter />
     </div>
@@ -1,39 +1,49 @@
 import React, { useEffect, useState } from "react";
 import CustomerHeader from "./Header";
 import CustomerFooter from "./Footer";
-import { getCustomerOrders } from "../../services/orderDetails";
+import { getCustomerOrders, getOrderById } from "../../services/orderDetails";
 import { toast } from "react-toastify";
 
 function CustomerOrders() {
   const [orders, setOrders] = useState([]);
   const [selectedOrder, setSelectedOrder] = useState(null);
   const [showModal, setShowModal] = useState(false);
+  const [nextPage, setNextPage] = useState(0);
+  const [hasMore, setHasMore] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
 
-  useEffect(() => {
-    const loadOrders = async () => {
-      try {
-        const customer = JSON.parse(localStorage.getItem("customer"));
-        if (!customer) {
-          toast.error("Please login to view your orders.");
-          return;
-        }
-        const result = await getCustomerOrders(customer.customer_id);
-        
-        if (!result || !Array.isArray(result)) {
-          toast.error("Failed to load orders - invalid data format");
-          return;
-        }
-        
-        setOrders(result);
-      } catch (err) {
-        toast.error("Failed to load orders: " + err.message);
+  // One page of flat order summaries at a time; items are fetched when an order is opened
+  const loadOrders = async (page) => {
+    try {
+      const customer = JSON.parse(localStorage.getItem("customer"));
+      if (!customer) {
+        toast.error("Please login to view your orders.");
+        return;
       }
-    };
-    loadOrders();
+      if (page > 0) setLoadingMore(true);
+      const result = await getCustomerOrders(customer.customer_id, page);
+
+      setOrders(prev => (page === 0 ? result.orders : [...prev, ...result.orders]));
+      setNextPage(page + 1);
+      setHasMore(result.hasMore);
+    } catch (err) {
+      toast.error("Failed to load orders: " + err.message);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  useEffect(() => {
+    loadOrders(0);
   }, []);
 
-  const handleViewDetails = (order) => {
-    setSelectedOrder(order);
+  const handleViewDetails = async (order) => {
+    const details = await getOrderById(order.orderId);
+    if (!details) {
+      toast.error("Failed to load order details");
+      return;
+    }
+    setSelectedOrder(details);
     setShowModal(true);
   };
 
@@ -111,24 +121,9 @@ function CustomerOrders() {
                     <td>{order.orderId || order.order_id}</td>
                     <td>{order.orderDate || order.date}</td>
                     <td>{order.paymentStatus || order.status}</td>
+                    <td>₹{order.totalAmount || order.total}</td>
                     <td>
-                      ₹{order.totalAmount || order.total}
-                      {order.orderItems && order.orderItems.length > 0 && (
-                        <div>
-                          <small className="text-muted">
-                            Items: ₹{order.orderItems.reduce((sum, item) => sum + (item.pricePerUnit * item.quantity), 0)}
-                          </small>
-                        </div>
-                      )}
-                    </td>
-                    <td>
-                      <ul>
-                        {(order.orderItems || order.items || []).map((item) => (
-                          <li key={item.productId || item.product_id}>
-                            {(item.product && item.product.name) || item.name} x {item.quantity} (₹{item.pricePerUnit || item.price})
-                          </li>
-                        ))}
-                      </ul>
+                      {order.itemCount} {order.itemCount === 1 ? 'item' : 'items'} from {order.shopName}
                     </td>
                     <td>
                       <button className="btn btn-sm btn-outline-primary" onClick={() => handleViewDetails(order)}>
@@ -139,6 +134,17 @@ function CustomerOrders() {
                 ))}
               </tbody>
             </table>
+            {hasMore && (
+              <div className="text-center">
+                <button
+                  className="btn btn-outline-secondary"
+                  onClick={() => loadOrders(nextPage)}
+                  disabled={loadingMore}
+                >
+                  {loadingMore ? 'Loading...' : 'Load more orders'}
+                </button>
+              </div>
+            )}
           </div>
         ) : (
           <p className="text-center">No orders found.</p>
@@ -1,5 +1,5 @@
 import React, { useEffect, useState } from "react";
-import { getAllProducts } from "../services/productService";
+import { getProductPage } from "../services/productService";
 import { toast } from "react-toastify";
 import { useNavigate, Link } from "react-router-dom";
 
@@ -39,24 +39,35 @@ function Home() {
   const [search, setSearch] = useState("");
   const [category, setCategory] = useState("");
   const [categories, setCategories] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const navigate = useNavigate();
 
+  // Products arrive one page at a time; "Load more" appends the next page
+  const loadProducts = async (cursor) => {
+    try {
+      const { products: result, nextCursor: next } = await getProductPage(cursor);
+      setProducts(prev => cursor ? [...prev, ...result] : result);
+      setNextCursor(next);
+      const pageCategories = result.map(p => 
+        p.category || p.category_name || p.categoryName
+      ).filter(cat => cat);
+      setCategories(prev => Array.from(new Set([...(cursor ? prev : []), ...pageCategories])));
+    } catch (err) {
+      toast.error("Failed to load products");
+    }
+  };
+
   useEffect(() => {
-    const loadProducts = async () => {
-      try {
-        const result = await getAllProducts();
-        setProducts(result);
-        const uniqueCategories = Array.from(new Set(result.map(p => 
-          p.category || p.category_name || p.categoryName
-        ).filter(cat => cat)));
-        setCategories(uniqueCategories);
-      } catch (err) {
-        toast.error("Failed to load products");
-      }
-    };
     loadProducts();
   }, []);
 
+  const handleLoadMore = async () => {
+    setLoadingMore(true);
+    await loadProducts(nextCursor);
+    setLoadingMore(false);
+  };
+
   const filteredProducts = products.filter(product => {
     const matchesSearch = product.name.toLowerCase().includes(search.toLowerCase()) || 
                          (product.description && product.description.toLowerCase().includes(search.toLowerCase()));
@@ -144,6 +155,14 @@ function Home() {
               </div>
             )}
           </div>
+
+          {nextCursor && (
+            <div className="text-center mt-4">
+              <button className="btn btn-outline-primary" onClick={handleLoadMore} disabled={loadingMore}>
+                {loadingMore ? "Loading..." : "Load more products"}
+              </button>
+            </div>
+          )}
         </div>
       </main>
       <PublicFooter />
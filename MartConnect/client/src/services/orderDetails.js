@@ -27,44 +27,48 @@ export const getAllOrders = async () => {
   }
 };
 
-export const getSellerOrders = async (sellerId) => {
+// One page of flat order summaries (newest first); details per order come from getOrderById
+export const getSellerOrders = async (sellerId, page = 0, size = 20) => {
   try {
-    const response = await api.get(`/orders/seller/${sellerId}`);
-    
-    // Handle direct array response (new format)
-    if (Array.isArray(response.data)) {
-      return response.data;
-    } else if (response.data.success) {
-      // Handle both paginated and non-paginated responses
-      const responseData = response.data.data;
-      if (responseData && responseData.content) {
-        // Paginated response
-        return responseData.content;
-      } else if (Array.isArray(responseData)) {
-        // Direct array response
-        return responseData;
-      } else {
-        return [];
-      }
-    } else {
-      throw new Error(response.data.message);
-    }
+    const response = await api.get(`/orders/seller/${sellerId}`, { params: { page, size } });
+    return toOrderPage(response.data);
   } catch (err) {
-    return [];
+    return toOrderPage(null);
   }
 };
 
-export const getCustomerOrders = async (customerId) => {
+export const getCustomerOrders = async (customerId, page = 0, size = 20) => {
   try {
-    const response = await api.get(`/orders/customer/${customerId}`);
-    
-    // Backend returns array directly, not wrapped in success/data
-    if (Array.isArray(response.data)) {
-      return response.data;
-    } else {
-      return [];
-    }
+    const response = await api.get(`/orders/customer/${customerId}`, { params: { page, size } });
+    return toOrderPage(response.data);
+  } catch (err) {
+    return toOrderPage(null);
+  }
+};
+
+// Full order with customer, seller and items - loaded when a row is opened
+export const getOrderById = async (orderId) => {
+  try {
+    const response = await api.get(`/orders/${orderId}`);
+    return response.data;
+  } catch (err) {
+    return null;
+  }
+};
+
+// Order count and total per payment status for the seller dashboard
+export const getSellerStatusTotals = async (sellerId) => {
+  try {
+    const response = await api.get(`/orders/seller/${sellerId}/status-totals`);
+    return Array.isArray(response.data) ? response.data : [];
   } catch (err) {
     return [];
   }
 };
+
+// Pages arrive as { content, page: { number, totalPages, totalElements } }
+const toOrderPage = (data) => ({
+  orders: Array.isArray(data?.content) ? data.content : [],
+  hasMore: data?.page ? data.page.number + 1 < data.page.totalPages : false,
+  totalOrders: data?.page?.totalElements || 0,
+});
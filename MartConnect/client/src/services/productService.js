@@ -2,12 +2,15 @@ import api from "./axiosConfig"; // Use configured axios instance
 
 const BASE_URL = "http://localhost:8087/api";
 
-// Fetch products
-export const fetchProducts = async () => {
+// Fetch one page of products - pass the returned nextCursor to get the following page
+// (nextCursor is null on the last page)
+export const fetchProducts = async (cursor) => {
   try {
     // First, let's check if the backend is accessible
     try {
-      await api.get(`/products`, { timeout: 5000 });
+      if (!cursor) {
+        await api.get(`/products`, { timeout: 5000, params: { limit: 1 } });
+      }
     } catch (healthError) {
       if (healthError.code === 'ECONNREFUSED') {
         throw new Error("Backend server is not running. Please start the server on port 8087.");
@@ -18,22 +21,23 @@ export const fetchProducts = async () => {
       }
     }
     
-    const response = await api.get(`/products`);
+    const response = await api.get(`/products`, { params: cursor ? { cursor } : {} });
     
     // Handle direct array response (new format)
     if (Array.isArray(response.data)) {
-      return response.data;
+      // Catalog is keyset paginated - the cursor for the next page comes in a header
+      return { products: response.data, nextCursor: response.headers['x-next-cursor'] || null };
     } else if (response.data.success) {
       // Handle both paginated and non-paginated responses
       const data = response.data.data;
       if (data && data.content) {
         // Paginated response
-        return data.content;
+        return { products: data.content, nextCursor: null };
       } else if (Array.isArray(data)) {
         // Direct array response
-        return data;
+        return { products: data, nextCursor: null };
       } else {
-        return [];
+        return { products: [], nextCursor: null };
       }
     } else {
       throw new Error(response.data.message);
@@ -79,4 +83,4 @@ export const buyNow = async (productId, userId) => {
   }
 };
 
-export const getAllProducts = fetchProducts;
+export const getProductPage = fetchProducts;
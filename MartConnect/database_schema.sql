@@ -45,6 +45,9 @@ CREATE TABLE products (
     FOREIGN KEY (seller_id) REFERENCES sellers(seller_id) ON DELETE CASCADE
 );
 
+-- seller low-stock / out-of-stock lists
+CREATE INDEX idx_products_seller_stock ON products (seller_id, stock);
+
 -- 4. ORDERS TABLE
 CREATE TABLE orders (
     order_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -61,6 +64,12 @@ CREATE TABLE orders (
     FOREIGN KEY (seller_id) REFERENCES sellers(seller_id) ON DELETE CASCADE
 );
 
+-- keyset order feeds (newest first per seller / customer)
+CREATE INDEX idx_orders_seller_date ON orders (seller_id, order_date, order_id);
+CREATE INDEX idx_orders_customer_date ON orders (customer_id, order_date, order_id);
+-- day by day rollup backfill
+CREATE INDEX idx_orders_date ON orders (order_date, order_id);
+
 -- 5. ORDER_ITEMS TABLE
 CREATE TABLE order_items (
     order_item_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -73,6 +82,13 @@ CREATE TABLE order_items (
     FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
 );
 
+-- Pooled id sequences for orders/order_items (Hibernate batches inserts with these;
+-- the server moves next_val past existing ids on startup)
+CREATE TABLE orders_seq (next_val BIGINT);
+INSERT INTO orders_seq VALUES (1);
+CREATE TABLE order_items_seq (next_val BIGINT);
+INSERT INTO order_items_seq VALUES (1);
+
 -- 6. AREAS TABLE (for delivery addresses)
 CREATE TABLE areas (
     area_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -106,6 +122,41 @@ CREATE TABLE categories (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Per-category product aggregates, kept in step with products by the server
+-- (rebuilt from products on startup when they disagree)
+CREATE TABLE category_stats (
+    category_id INT PRIMARY KEY,
+    product_count INT NOT NULL,
+    in_stock_count INT NOT NULL,
+    price_sum DECIMAL(14,2) NOT NULL,
+    min_price DECIMAL(10,2),
+    max_price DECIMAL(10,2),
+    updated_at TIMESTAMP
+);
+
+-- Per-seller sales rollups, incremented by the server with every order
+-- (a seller's past days can be rebuilt from orders through POST /api/sellers/{sellerId}/analytics/backfill)
+CREATE TABLE seller_sales_rollups (
+    seller_id INT NOT NULL,
+    granularity VARCHAR(4) NOT NULL,
+    bucket_start DATETIME NOT NULL,
+    order_count INT NOT NULL,
+    revenue DECIMAL(14,2) NOT NULL,
+    units_sold INT NOT NULL,
+    updated_at TIMESTAMP,
+    PRIMARY KEY (seller_id, granularity, bucket_start)
+);
+
+CREATE TABLE seller_product_sales_rollups (
+    seller_id INT NOT NULL,
+    sales_date DATE NOT NULL,
+    product_id INT NOT NULL,
+    units_sold INT NOT NULL,
+    revenue DECIMAL(14,2) NOT NULL,
+    updated_at TIMESTAMP,
+    PRIMARY KEY (seller_id, sales_date, product_id)
+);
+
 -- 9. PRODUCT_IMAGES TABLE (for multiple product images)
 CREATE TABLE product_images (
     image_id INT PRIMARY KEY AUTO_INCREMENT,
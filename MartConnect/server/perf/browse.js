@@ -0,0 +1,36 @@
+// Browse load: anonymous catalog reads - product page, category list, a product detail.
+// k6 run -e BASE_URL=http://localhost:8087 perf/browse.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8087';
+const PRODUCT_IDS = (__ENV.PRODUCT_IDS || '1,2,3').split(',');
+
+export const options = {
+  scenarios: {
+    browse: {
+      executor: 'ramping-vus',
+      stages: [
+        { duration: '30s', target: Number(__ENV.VUS || 200) },
+        { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 200) },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  const page = http.get(`${BASE_URL}/api/products?limit=20`, { tags: { name: 'products' } });
+  check(page, { 'products 200': (r) => r.status === 200 });
+
+  const categories = http.get(`${BASE_URL}/api/categories`, { tags: { name: 'categories' } });
+  check(categories, { 'categories 200': (r) => r.status === 200 });
+
+  const id = PRODUCT_IDS[Math.floor(Math.random() * PRODUCT_IDS.length)];
+  const detail = http.get(`${BASE_URL}/api/products/${id}`, { tags: { name: 'product' } });
+  check(detail, { 'product 200': (r) => r.status === 200 });
+}
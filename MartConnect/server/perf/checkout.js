@@ -0,0 +1,72 @@
+// Checkout load: each VU is its own customer and loops add-to-cart -> cart view -> checkout.
+// setup() registers CUSTOMERS throw-away customers (unique per run) and logs them in.
+// k6 run -e BASE_URL=http://localhost:8087 perf/checkout.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8087';
+const CUSTOMERS = Number(__ENV.CUSTOMERS || 50);
+const PRODUCT_IDS = (__ENV.PRODUCT_IDS || '1,2').split(',').map(Number);
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+  setupTimeout: '5m',
+  scenarios: {
+    checkout: {
+      executor: 'constant-vus',
+      vus: CUSTOMERS,
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const run = Date.now();
+  const customers = [];
+  for (let i = 0; i < CUSTOMERS; i++) {
+    const email = `load-${run}-${i}@perf.test`;
+    const registered = http.post(`${BASE_URL}/api/users/register`, JSON.stringify({
+      role: 'Customer',
+      firstName: 'Load',
+      lastName: `Customer${i}`,
+      email,
+      phone: String(9000000000 + i),
+      address: 'Perf Street',
+      password: 'pass',
+    }), { headers: JSON_HEADERS });
+    check(registered, { 'register 200': (r) => r.status === 200 });
+
+    const login = http.post(`${BASE_URL}/api/users/login`,
+      JSON.stringify({ email, password: 'pass', role: 'Customer' }), { headers: JSON_HEADERS });
+    check(login, { 'login 200': (r) => r.status === 200 });
+    customers.push({ id: login.json('userData.customerId'), token: login.json('jwt') });
+  }
+  return { customers };
+}
+
+export default function (data) {
+  const customer = data.customers[(__VU - 1) % data.customers.length];
+  const params = {
+    headers: Object.assign({ Authorization: `Bearer ${customer.token}` }, JSON_HEADERS),
+  };
+
+  for (const productId of PRODUCT_IDS) {
+    const added = http.post(`${BASE_URL}/api/cart/cart`,
+      JSON.stringify({ customerId: customer.id, productId, quantity: 1 }),
+      Object.assign({ tags: { name: 'add-to-cart' } }, params));
+    check(added, { 'add 201': (r) => r.status === 201 });
+  }
+
+  const view = http.get(`${BASE_URL}/api/cart/customer/${customer.id}/view`,
+    Object.assign({ tags: { name: 'cart-view' } }, params));
+  check(view, { 'cart view 200': (r) => r.status === 200 });
+
+  const checkout = http.post(`${BASE_URL}/api/cart/checkout`,
+    JSON.stringify({ customerId: customer.id, transactionId: `TXN-${__VU}-${__ITER}` }),
+    Object.assign({ tags: { name: 'checkout' } }, params));
+  check(checkout, { 'checkout 201': (r) => r.status === 201 });
+}
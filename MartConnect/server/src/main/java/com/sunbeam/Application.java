@@ -1,18 +1,13 @@
 package com.sunbeam;
 
-import org.modelmapper.Conditions;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-
-import com.sunbeam.entities.Product;
-import com.sunbeam.dto.ProductDto;
+import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode;
 
 @SpringBootApplication // includes @Configuration
+// serialize Page responses as a stable {content, page} JSON shape
+@EnableSpringDataWebSupport(pageSerializationMode = PageSerializationMode.VIA_DTO)
 public class Application {
 
 	public static void main(String[] args) {
@@ -20,43 +15,10 @@ public class Application {
 	}
 
 	/*
-	 * Configure ModelMapper as spring bean - so thar SC will manage it's life cycle
-	 * + provide it as the depcy
+	 * Entity <-> DTO mapping is done by compile time generated MapStruct mappers
+	 * (com.sunbeam.mapper) - no reflective ModelMapper bean any more
 	 */
-	@Bean // method level annotation - to tell SC , following method
-	// rets an object - which has to be managed as a spring bean
-	// manages - life cycle +
-	public ModelMapper modelMapper() {
-		System.out.println("in model mapper creation");
-		ModelMapper mapper = new ModelMapper();
-		mapper.getConfiguration()
-				/*
-				 * To tell ModelMapper to map only those props whose names match in src n dest.
-				 * objects
-				 */
-				.setMatchingStrategy(MatchingStrategies.STRICT)
-				/*
-				 * To tell ModelMapper not to transfer nulls from src -> dest
-				 */
-				.setPropertyCondition(Conditions.isNotNull());// use case - PUT
-		
-		// Add custom mapping for Product to ProductDto
-		mapper.createTypeMap(com.sunbeam.entities.Product.class, com.sunbeam.dto.ProductDto.class)
-			.addMappings(mapping -> {
-				mapping.map(Product::getCategoryName, ProductDto::setCategory);
-			});
-		
-		return mapper;
 
-	}
-	
-	/*
-	 * Configure spring sec supplied password encoder bean
-	 */
-	@Bean
-	PasswordEncoder passwordEncoder() 
-	{
-		return new BCryptPasswordEncoder();
-	}
+	// password encoder n hashing executor: com.sunbeam.security.PasswordHashingConfiguration
 
 }
@@ -0,0 +1,79 @@
+package com.sunbeam.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sunbeam.dto.ProductDto;
+import com.sunbeam.events.ProductChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of ProductDto snapshots for the product detail endpoint.
+ *
+ * Entries are bounded by an estimated byte size and expire after a TTL. Cached
+ * instances never leave this class - callers always receive a copy, so nobody can
+ * mutate a shared snapshot. Entries are evicted after commit of any product change.
+ * A load runs inside Caffeine's per-key compute: concurrent misses of one product share a
+ * single load, n an eviction of that product waits for it n then removes what it stored, so a
+ * read that raced with a change is never left in the cache. Other products are not affected.
+ * Hit, miss and eviction counters are published as cache.* metrics with cache=product.
+ */
+@Component
+public class ProductCache {
+
+    private final Cache<Integer, ProductDto> cache;
+
+    public ProductCache(MeterRegistry meterRegistry,
+            @Value("${cache.product.max-bytes:33554432}") long maxBytes,
+            @Value("${cache.product.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Integer id, ProductDto product) -> estimateBytes(product))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product");
+    }
+
+    /**
+     * Cached product, or the loader's result (cached when present)
+     */
+    public Optional<ProductDto> get(Integer productId, Supplier<Optional<ProductDto>> loader) {
+        ProductDto cached = cache.get(productId, id -> loader.get().map(ProductCache::copyOf).orElse(null));
+        return Optional.ofNullable(cached).map(ProductCache::copyOf);
+    }
+
+    public void evict(Integer productId) {
+        cache.invalidate(productId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+    private static ProductDto copyOf(ProductDto source) {
+        return new ProductDto(source.getProductId(), source.getName(), source.getDescription(), source.getPrice(),
+                source.getUnit(), source.getStock(), source.getImageUrl(), source.getCategoryId(),
+                source.getCategory(), source.getSellerId());
+    }
+
+    // rough retained size: object headers and boxed fields plus 2 bytes per char of text
+    private static int estimateBytes(ProductDto product) {
+        return 160 + 2 * (length(product.getName()) + length(product.getDescription())
+                + length(product.getUnit()) + length(product.getImageUrl()) + length(product.getCategory()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,86 @@
+package com.sunbeam.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache for reference data, kept in local Caffeine caches through JCache.
+ *
+ * Every region is created here with its own size bound and time to live, and Hibernate is told
+ * to fail on any region that is not, so nothing ends up in an unbounded default cache.
+ * Region hit / miss / put counts are published as hibernate.second.level.cache.* metrics (tag region) and
+ * query cache counts as hibernate.cache.query.*. Set cache.l2.enabled=false to switch it off.
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    public static final String CATEGORY_REGION = "category";
+    public static final String CATEGORY_QUERY_REGION = "category-queries";
+    public static final String SELLER_REGION = "seller";
+
+    @Value("${cache.l2.enabled:true}")
+    private boolean enabled;
+
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(
+            @Value("${cache.l2.category.max-size:1000}") long categoryMaxSize,
+            @Value("${cache.l2.category.ttl:PT1H}") Duration categoryTtl,
+            @Value("${cache.l2.category-queries.max-size:200}") long categoryQueryMaxSize,
+            @Value("${cache.l2.seller.max-size:10000}") long sellerMaxSize,
+            @Value("${cache.l2.seller.ttl:PT10M}") Duration sellerTtl,
+            @Value("${cache.l2.query-results.max-size:1000}") long queryResultsMaxSize,
+            @Value("${cache.l2.query-results.ttl:PT5M}") Duration queryResultsTtl) {
+        // a manager of this context's own - the provider's default one is shared by every context in the JVM
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("hibernate-l2:" + UUID.randomUUID()),
+                getClass().getClassLoader());
+        cacheManager.createCache(CATEGORY_REGION, region(categoryMaxSize, categoryTtl));
+        cacheManager.createCache(SELLER_REGION, region(sellerMaxSize, sellerTtl));
+        // cached results are also dropped as soon as the categories table changes (update timestamps)
+        cacheManager.createCache(CATEGORY_QUERY_REGION, region(categoryQueryMaxSize, categoryTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(queryResultsMaxSize, queryResultsTtl));
+        // table modification timestamps must outlive every cached query result, so they never expire
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<Object, Object>().setStoreByValue(false));
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+
+    // entries are Hibernate's own disassembled state, so there is no need to copy them on the way in or out
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        return new CaffeineConfiguration<Object, Object>()
+                .setStoreByValue(false)
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    }
+}
@@ -0,0 +1,410 @@
+package com.sunbeam.cart;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sunbeam.dao.CartBatchDao.PendingLine;
+import com.sunbeam.dao.CartDao;
+import com.sunbeam.dao.CustomerDao;
+import com.sunbeam.dto.CartDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for add-to-cart and quantity changes.
+ *
+ * Mutations are coalesced per (customer, product) line in memory - repeated adds become one delta,
+ * a quantity change or removal replaces whatever came before - and written to the cart table as
+ * batched upserts on unique_cart_item every flush interval, when a customer's cart is read or
+ * checked out, when max-lines pending lines pile up, and on shutdown. The first touch of a line
+ * costs one query (product exists + current line); a line that is not in the table yet is then
+ * written straight away, so every returned CartDto carries a real cartId. Later clicks on a
+ * stored line cost no round trip until the next flush. Adds are written as deltas, so they also
+ * stay correct when another node changes the same line.
+ *
+ * Callers flush before opening their own transaction: the flush commits on its own connection
+ * and the read or checkout that follows, on the primary, sees it.
+ *
+ * Durability: a mutation is acknowledged before it is written. A graceful shutdown flushes
+ * everything, but a crash or kill loses up to one flush interval of cart clicks (never orders -
+ * reads and checkout flush the customer's lines first). A flush that fails on a constraint
+ * (product deleted meanwhile) is retried line by line and drops only the lines that still fail,
+ * counted as cart.buffer.dropped; any other failure puts the lines back for the next attempt.
+ * Set cart.write-buffer.enabled=false to write through. Pending lines and flushes are published
+ * as cart.buffer.pending and cart.buffer.flushes.
+ */
+@Component
+@Slf4j
+public class CartWriteBuffer {
+
+    // coalesced state of one cart line, only touched inside pendingByCustomer.compute
+    private static final class Line {
+        private final Integer cartId;
+        private final int storedQuantity;
+        private int delta;
+        private Integer absolute;
+
+        private Line(Integer cartId, int storedQuantity) {
+            this.cartId = cartId;
+            this.storedQuantity = storedQuantity;
+        }
+
+        private void add(int quantity) {
+            if (absolute != null) {
+                absolute += quantity;
+            } else {
+                delta += quantity;
+            }
+        }
+
+        private int quantity() {
+            return absolute != null ? absolute : storedQuantity + delta;
+        }
+
+        // later mutations of this line are applied on top of the earlier ones in other
+        private void mergeAfter(Line other) {
+            if (absolute == null) {
+                if (other.absolute != null) {
+                    absolute = other.absolute + delta;
+                } else {
+                    delta += other.delta;
+                }
+            }
+        }
+
+        private PendingLine toPendingLine(Integer customerId, Integer productId) {
+            if (absolute != null) {
+                return new PendingLine(customerId, productId, absolute, true);
+            }
+            return delta != 0 ? new PendingLine(customerId, productId, delta, false) : null;
+        }
+    }
+
+    private record LineKey(Integer customerId, Integer productId) {
+    }
+
+    private final CartDao cartDao;
+    private final CustomerDao customerDao;
+    private final TransactionTemplate flushTransaction;
+    private final boolean enabled;
+    private final int maxLines;
+
+    // customer id -> product id -> line
+    private final Map<Integer, Map<Integer, Line>> pendingByCustomer = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingLines = new AtomicInteger();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean();
+    // flushes are serialized so an older batch of a line can never land after a newer one
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Cache<Integer, LineKey> lineKeysByCartId;
+    private final Cache<Integer, Boolean> knownCustomers;
+    private final Counter flushes;
+    private final Counter droppedLines;
+    private final ScheduledExecutorService scheduler;
+
+    public CartWriteBuffer(CartDao cartDao, CustomerDao customerDao, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${cart.write-buffer.enabled:true}") boolean enabled,
+            @Value("${cart.write-buffer.flush-interval:PT2S}") Duration flushInterval,
+            @Value("${cart.write-buffer.max-lines:10000}") int maxLines) {
+        this.cartDao = cartDao;
+        this.customerDao = customerDao;
+        this.enabled = enabled;
+        this.maxLines = maxLines;
+        // always its own transaction - a caller's rollback must never take flushed lines with it
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lineKeysByCartId = Caffeine.newBuilder().maximumSize(100_000).build();
+        this.knownCustomers = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(Duration.ofHours(1)).build();
+        Gauge.builder("cart.buffer.pending", pendingLines, AtomicInteger::get).register(meterRegistry);
+        this.flushes = Counter.builder("cart.buffer.flushes").register(meterRegistry);
+        this.droppedLines = Counter.builder("cart.buffer.dropped").register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cart-write-buffer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::flushAll, flushInterval.toMillis(), flushInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffer "quantity more of this product" - returns the line as the customer will see it
+     */
+    public CartDto add(Integer customerId, Integer productId, int quantity) {
+        if (knownCustomers.getIfPresent(customerId) == null) {
+            if (!customerDao.existsById(customerId)) {
+                throw new RuntimeException("Customer not found with ID: " + customerId);
+            }
+            knownCustomers.put(customerId, Boolean.TRUE);
+        }
+        return mutate(new LineKey(customerId, productId), line -> line.add(quantity));
+    }
+
+    /**
+     * Buffer a new quantity for a stored line - returns null when that removes it
+     */
+    public CartDto setQuantity(Integer cartId, int quantity) {
+        LineKey key = resolve(cartId);
+        if (quantity <= 0) {
+            lineKeysByCartId.invalidate(cartId);
+        }
+        CartDto result = mutate(key, line -> line.absolute = Math.max(quantity, 0));
+        return quantity <= 0 ? null : result;
+    }
+
+    public void remove(Integer cartId) {
+        setQuantity(cartId, 0);
+    }
+
+    /**
+     * These stored lines were deleted behind the buffer's back (checkout) - stop resolving their ids
+     */
+    public void forget(Collection<Integer> cartIds) {
+        lineKeysByCartId.invalidateAll(cartIds);
+    }
+
+    /**
+     * Write one customer's pending lines now (before their cart is read or checked out)
+     */
+    public void flush(Integer customerId) {
+        // a flushAll may have drained this customer's lines and still be writing them - only when
+        // nothing is pending and no flush holds the lock (checked in this order) is the table current
+        if (!pendingByCustomer.containsKey(customerId) && !flushLock.isLocked()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Map<Integer, Line> lines = pendingByCustomer.remove(customerId);
+            if (lines != null) {
+                pendingLines.addAndGet(-lines.size());
+                write(Map.of(customerId, lines));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Write every pending line in one transaction
+     */
+    public void flushAll() {
+        earlyFlushScheduled.set(false);
+        if (pendingByCustomer.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Map<Integer, Map<Integer, Line>> drained = new HashMap<>();
+            for (Integer customerId : pendingByCustomer.keySet()) {
+                Map<Integer, Line> lines = pendingByCustomer.remove(customerId);
+                if (lines != null) {
+                    pendingLines.addAndGet(-lines.size());
+                    drained.put(customerId, lines);
+                }
+            }
+            write(drained);
+        } catch (RuntimeException e) {
+            // keep the scheduler alive, the lines are back in the buffer
+            log.error("Cart buffer flush failed", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdown();
+        flushAll();
+    }
+
+    private CartDto mutate(LineKey key, Consumer<Line> mutation) {
+        CartDto result = apply(key, null, mutation);
+        if (result == null) {
+            // first touch of the line since the last flush: one query for product + stored line
+            List<Object[]> state = cartDao.findLineState(key.customerId(), key.productId());
+            if (state.isEmpty()) {
+                throw new RuntimeException("Product not found with ID: " + key.productId());
+            }
+            Integer cartId = (Integer) state.get(0)[1];
+            Integer storedQuantity = (Integer) state.get(0)[2];
+            if (cartId == null) {
+                return insert(key, mutation);
+            }
+            lineKeysByCartId.put(cartId, key);
+            result = apply(key, new Line(cartId, storedQuantity), mutation);
+        }
+        if (pendingLines.get() >= maxLines && earlyFlushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushAll);
+        }
+        return result;
+    }
+
+    // a line the table does not have yet is written now, in the caller's transaction, so it gets its
+    // cartId; the adding upsert keeps a concurrent first add of the same line from being lost
+    private CartDto insert(LineKey key, Consumer<Line> mutation) {
+        Line line = new Line(null, 0);
+        mutation.accept(line);
+        PendingLine pendingLine = line.toPendingLine(key.customerId(), key.productId());
+        if (pendingLine != null) {
+            cartDao.applyPendingLines(List.of(pendingLine), LocalDateTime.now());
+        }
+        List<Object[]> state = cartDao.findLineState(key.customerId(), key.productId());
+        Integer cartId = state.isEmpty() ? null : (Integer) state.get(0)[1];
+        if (cartId == null) {
+            return null;
+        }
+        lineKeysByCartId.put(cartId, key);
+        return new CartDto(cartId, key.customerId(), key.productId(), (Integer) state.get(0)[2], null, null);
+    }
+
+    // null when the line is not buffered and no loaded line was given
+    private CartDto apply(LineKey key, Line loaded, Consumer<Line> mutation) {
+        CartDto[] result = new CartDto[1];
+        pendingByCustomer.compute(key.customerId(), (customerId, lines) -> {
+            Line line = lines != null ? lines.get(key.productId()) : null;
+            if (line == null) {
+                if (loaded == null) {
+                    return lines;
+                }
+                if (lines == null) {
+                    lines = new HashMap<>();
+                }
+                line = loaded;
+                lines.put(key.productId(), line);
+                pendingLines.incrementAndGet();
+            }
+            mutation.accept(line);
+            result[0] = new CartDto(line.cartId, customerId, key.productId(), line.quantity(), null, null);
+            return lines;
+        });
+        return result[0];
+    }
+
+    private LineKey resolve(Integer cartId) {
+        LineKey key = lineKeysByCartId.getIfPresent(cartId);
+        if (key == null) {
+            List<Object[]> found = cartDao.findLineKey(cartId);
+            if (found.isEmpty()) {
+                throw new RuntimeException("Cart item not found with ID: " + cartId);
+            }
+            key = new LineKey((Integer) found.get(0)[0], (Integer) found.get(0)[1]);
+            lineKeysByCartId.put(cartId, key);
+        }
+        return key;
+    }
+
+    // caller holds flushLock; the drained lines are no longer visible to mutations
+    private void write(Map<Integer, Map<Integer, Line>> drained) {
+        int lineCount = drained.values().stream().mapToInt(Map::size).sum();
+        if (lineCount == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<PendingLine> batch = new ArrayList<>(lineCount);
+            drained.forEach((customerId, lines) -> batch.addAll(toPendingLines(customerId, lines)));
+            flushTransaction.executeWithoutResult(status -> cartDao.applyPendingLines(batch, now));
+            flushes.increment();
+        } catch (DataIntegrityViolationException e) {
+            if (lineCount == 1) {
+                Integer customerId = drained.keySet().iterator().next();
+                Integer productId = drained.get(customerId).keySet().iterator().next();
+                droppedLines.increment();
+                log.warn("Dropped buffered cart line of customer {} for product {}: {}", customerId, productId,
+                        e.getMessage());
+                return;
+            }
+            // narrow down to the offending line(s), per customer first, without losing anyone else's
+            List<Map<Integer, Map<Integer, Line>>> parts = new ArrayList<>();
+            if (drained.size() > 1) {
+                drained.forEach((customerId, lines) -> parts.add(Map.of(customerId, lines)));
+            } else {
+                drained.forEach((customerId, lines) -> lines.forEach((productId, line) -> {
+                    Map<Integer, Line> single = new HashMap<>();
+                    single.put(productId, line);
+                    parts.add(Map.of(customerId, single));
+                }));
+            }
+            writeEach(parts);
+        } catch (DataAccessException e) {
+            drained.forEach(this::requeue);
+            throw e;
+        }
+    }
+
+    private void writeEach(List<Map<Integer, Map<Integer, Line>>> parts) {
+        for (int i = 0; i < parts.size(); i++) {
+            try {
+                write(parts.get(i));
+            } catch (DataAccessException e) {
+                // the failed part is back in the buffer already, the untried ones go with it
+                parts.subList(i + 1, parts.size()).forEach(part -> part.forEach(this::requeue));
+                throw e;
+            }
+        }
+    }
+
+    private static List<PendingLine> toPendingLines(Integer customerId, Map<Integer, Line> lines) {
+        List<PendingLine> pending = new ArrayList<>(lines.size());
+        lines.forEach((productId, line) -> {
+            PendingLine pendingLine = line.toPendingLine(customerId, productId);
+            if (pendingLine != null) {
+                pending.add(pendingLine);
+            }
+        });
+        return pending;
+    }
+
+    // put lines that could not be written back underneath anything buffered since
+    private void requeue(Integer customerId, Map<Integer, Line> lines) {
+        pendingByCustomer.compute(customerId, (id, current) -> {
+            if (current == null) {
+                pendingLines.addAndGet(lines.size());
+                return new HashMap<>(lines);
+            }
+            lines.forEach((productId, line) -> {
+                Line newer = current.get(productId);
+                if (newer == null) {
+                    current.put(productId, line);
+                    pendingLines.incrementAndGet();
+                } else {
+                    newer.mergeAfter(line);
+                }
+            });
+            return current;
+        });
+    }
+}
@@ -2,15 +2,19 @@ package com.sunbeam.controller;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -22,6 +26,8 @@ import com.sunbeam.dto.CustomerDto;
 import com.sunbeam.dto.SellerDto;
 import com.sunbeam.dto.SignInDTO;
 import com.sunbeam.security.JwtUtils;
+import com.sunbeam.security.PasswordHashingExecutor;
+import com.sunbeam.security.UserPrincipal;
 import com.sunbeam.service.CustomerService;
 import com.sunbeam.service.SellerService;
 
@@ -42,66 +48,60 @@ public class AuthController {
     private JwtUtils jwtUtils;
     
     @Autowired
-    private UserDetailsService userDetailsService;
+    private PasswordEncoder passwordEncoder;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHashingExecutor;
     
+    /*
+     * Login n registration hash passwords on the bounded hashing pool - the Tomcat worker is
+     * released while BCrypt runs, n a full queue answers 503 instead of stalling other endpoints
+     */
     @PostMapping("/login")
-    public ResponseEntity<AuthResp> login(@RequestBody SignInDTO signInDTO) {
+    public CompletableFuture<ResponseEntity<AuthResp>> login(@RequestBody SignInDTO signInDTO) {
+        return onHashingPool(() -> authenticate(signInDTO));
+    }
+    
+    @PostMapping("/register")
+    public CompletableFuture<ResponseEntity<AuthResp>> register(@RequestBody Map<String, Object> request) {
+        return onHashingPool(() -> registerUser(request));
+    }
+    
+    private CompletableFuture<ResponseEntity<AuthResp>> onHashingPool(Supplier<ResponseEntity<AuthResp>> task) {
+        try {
+            return passwordHashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new AuthResp("Server busy, please retry", null, null)));
+        }
+    }
+    
+    private ResponseEntity<AuthResp> authenticate(SignInDTO signInDTO) {
         try {
             System.out.println("Login attempt for email: " + signInDTO.getEmail() + ", role: " + signInDTO.getRole());
             
-            // Check if user exists first
-            boolean userExists = false;
-            if ("Seller".equals(signInDTO.getRole())) {
-                var sellerOpt = sellerService.findByEmail(signInDTO.getEmail());
-                userExists = sellerOpt.isPresent();
-                if (userExists) {
-                    System.out.println("Seller found with email: " + signInDTO.getEmail());
-                }
-            } else {
-                var customerOpt = customerService.findByEmail(signInDTO.getEmail());
-                userExists = customerOpt.isPresent();
-                if (userExists) {
-                    System.out.println("Customer found with email: " + signInDTO.getEmail());
-                }
-            }
-            
-            if (!userExists) {
-                System.out.println("User not found with email: " + signInDTO.getEmail());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(new AuthResp("User not found", null, null));
-            }
-            
-            // Authenticate user using Spring Security
-            Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(signInDTO.getEmail(), signInDTO.getPassword())
-            );
+            // Authenticate user using Spring Security - the role travels as request details so the
+            // provider looks in the seller or customer table only (one lookup, one BCrypt check)
+            UsernamePasswordAuthenticationToken loginRequest =
+                    new UsernamePasswordAuthenticationToken(signInDTO.getEmail(), signInDTO.getPassword());
+            loginRequest.setDetails(signInDTO.getRole());
+            Authentication authentication = authenticationManager.authenticate(loginRequest);
             
             System.out.println("Authentication successful for: " + signInDTO.getEmail());
             
             // Generate JWT token
             String jwtToken = jwtUtils.generateJwtToken(authentication);
             
-            Object userData = null;
-            
-            if ("Seller".equals(signInDTO.getRole())) {
-                // Seller login
-                var sellerOpt = sellerService.findByEmail(signInDTO.getEmail());
-                if (sellerOpt.isPresent()) {
-                    userData = sellerOpt.get();
-                }
-            } else {
-                // Customer login
-                var customerOpt = customerService.findByEmail(signInDTO.getEmail());
-                if (customerOpt.isPresent()) {
-                    userData = customerOpt.get();
-                }
-            }
+            // Customer / seller DTO was loaded along with the credentials
+            Object userData = ((UserPrincipal) authentication.getPrincipal()).getUserData();
             
             return ResponseEntity.ok(new AuthResp("Login successful", jwtToken, userData));
                     
+        } catch (UsernameNotFoundException e) {
+            System.out.println("User not found with email: " + signInDTO.getEmail());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new AuthResp("User not found", null, null));
         } catch (BadCredentialsException e) {
             System.err.println("Bad credentials for email: " + signInDTO.getEmail());
             System.err.println("Error: " + e.getMessage());
@@ -116,8 +116,7 @@ public class AuthController {
         }
     }
     
-    @PostMapping("/register")
-    public ResponseEntity<AuthResp> register(@RequestBody Map<String, Object> request) {
+    private ResponseEntity<AuthResp> registerUser(Map<String, Object> request) {
         try {
             String role = (String) request.get("role");
             
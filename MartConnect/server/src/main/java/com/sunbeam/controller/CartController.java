@@ -1,7 +1,6 @@
 package com.sunbeam.controller;
 
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -15,8 +14,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sunbeam.custom_exceptions.InvalidInputException;
+import com.sunbeam.custom_exceptions.ResourceNotFoundException;
+import com.sunbeam.dto.AddToCartRequest;
 import com.sunbeam.dto.CartDto;
+import com.sunbeam.dto.CartQuantityRequest;
+import com.sunbeam.dto.CartViewDto;
+import com.sunbeam.dto.CheckoutDto;
+import com.sunbeam.dto.CheckoutRequest;
 import com.sunbeam.service.CartService;
+import com.sunbeam.service.OrderService;
+
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/cart")
@@ -25,6 +34,9 @@ public class CartController {
     @Autowired
     private CartService cartService;
     
+    @Autowired
+    private OrderService orderService;
+    
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<List<CartDto>> getCustomerCart(@PathVariable Integer customerId) {
         try {
@@ -35,44 +47,31 @@ public class CartController {
         }
     }
     
+    // priced cart with line totals, cart total and stock warnings - no product lookups needed on the client
+    @GetMapping("/customer/{customerId}/view")
+    public ResponseEntity<CartViewDto> getCustomerCartView(@PathVariable Integer customerId) {
+        try {
+            return ResponseEntity.ok(cartService.getCartView(customerId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @PostMapping("/cart")
-    public ResponseEntity<CartDto> addToCart(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<CartDto> addToCart(@Valid @RequestBody AddToCartRequest request) {
         try {
-            System.out.println("Received cart request: " + request);
-            
-            // Extract cart data from request
-            Integer productId = (Integer) request.get("productId");
-            Integer customerId = (Integer) request.get("customerId");
-            Integer quantity = (Integer) request.get("quantity");
-            
-            if (productId == null || customerId == null || quantity == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // Create cart DTO
-            CartDto cartDto = new CartDto();
-            cartDto.setProductId(productId);
-            cartDto.setCustomerId(customerId);
-            cartDto.setQuantity(quantity);
-            
-            CartDto addedCartItem = cartService.addToCart(cartDto);
+            CartDto addedCartItem = cartService.addToCart(request.toDto());
             return ResponseEntity.status(HttpStatus.CREATED).body(addedCartItem);
         } catch (Exception e) {
             System.err.println("Error adding to cart: " + e.getMessage());
-            e.printStackTrace();
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
     
     @PutMapping("/{cartId}/quantity")
-    public ResponseEntity<CartDto> updateQuantity(@PathVariable Integer cartId, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<CartDto> updateQuantity(@PathVariable Integer cartId, @Valid @RequestBody CartQuantityRequest request) {
         try {
-            Integer newQuantity = (Integer) request.get("quantity");
-            if (newQuantity == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            CartDto updatedCartItem = cartService.updateQuantity(cartId, newQuantity);
+            CartDto updatedCartItem = cartService.updateQuantity(cartId, request.quantity());
             if (updatedCartItem == null) {
                 // Item was removed due to quantity <= 0
                 return ResponseEntity.noContent().build();
@@ -93,6 +92,21 @@ public class CartController {
         }
     }
     
+    // one order per seller from the stored cart, priced server side; the cart is emptied in the same transaction
+    @PostMapping("/checkout")
+    public ResponseEntity<CheckoutDto> checkout(@Valid @RequestBody CheckoutRequest request) {
+        try {
+            CheckoutDto checkout = orderService.checkoutCart(request.customerId(), request.transactionId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(checkout);
+        } catch (InvalidInputException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
 //    @DeleteMapping("/customer/{customerId}")
 //    public ResponseEntity<Void> clearCustomerCart(@PathVariable Integer customerId) {
 //        try {
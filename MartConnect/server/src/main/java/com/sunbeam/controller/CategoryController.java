@@ -1,7 +1,6 @@
 package com.sunbeam.controller;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,7 +18,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.sunbeam.dto.ApiResponse;
 import com.sunbeam.dto.CategoryDto;
+import com.sunbeam.dto.CreateCategoryRequest;
 import com.sunbeam.service.CategoryService;
+import com.sunbeam.service.CategoryStatsService;
+
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -28,6 +31,9 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
     
+    @Autowired
+    private CategoryStatsService categoryStatsService;
+    
     @GetMapping
     public ResponseEntity<List<CategoryDto>> getAllCategories() {
         try {
@@ -53,22 +59,9 @@ public class CategoryController {
     }
     
     @PostMapping
-    public ResponseEntity<CategoryDto> createCategory(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<CategoryDto> createCategory(@Valid @RequestBody CreateCategoryRequest request) {
         try {
-            String name = (String) request.get("name");
-            String description = (String) request.get("description");
-            
-            if (name == null || name.trim().isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            CategoryDto categoryDto = new CategoryDto();
-            categoryDto.setName(name.trim());
-            if (description != null && !description.trim().isEmpty()) {
-                categoryDto.setDescription(description.trim());
-            }
-            
-            CategoryDto savedCategory = categoryService.addCategory(categoryDto);
+            CategoryDto savedCategory = categoryService.addCategory(request.toDto());
             return ResponseEntity.status(HttpStatus.CREATED).body(savedCategory);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -95,6 +88,17 @@ public class CategoryController {
         }
     }
     
+    // recompute every category's product count / price range from products (after manual data fixes)
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<ApiResponse> rebuildCategoryStats() {
+        try {
+            int categories = categoryStatsService.rebuild();
+            return ResponseEntity.ok(new ApiResponse("Category stats rebuilt for " + categories + " categories"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @GetMapping("/search")
     public ResponseEntity<Optional<CategoryDto>> searchCategories(@RequestParam String name) {
         try {
@@ -1,13 +1,12 @@
 package com.sunbeam.controller;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,12 +15,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sunbeam.custom_exceptions.InvalidInputException;
+import com.sunbeam.dto.CreateOrderRequest;
 import com.sunbeam.dto.OrderDto;
-import com.sunbeam.entities.Order.PaymentStatus;
+import com.sunbeam.dto.OrderSliceDto;
+import com.sunbeam.dto.OrderStatusTotalDto;
+import com.sunbeam.dto.OrderSummaryDto;
 import com.sunbeam.service.OrderService;
 
+import jakarta.validation.Valid;
+
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
@@ -54,130 +60,12 @@ public class OrderController {
     }
     
     @PostMapping
-    public ResponseEntity<OrderDto> createOrder(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<OrderDto> createOrder(@Valid @RequestBody CreateOrderRequest request) {
         try {
-            System.out.println("Received order request: " + request);
-            
-            // Extract order data from request
-            Map<String, Object> customerMap = (Map<String, Object>) request.get("customer");
-            Map<String, Object> sellerMap = (Map<String, Object>) request.get("seller");
-            BigDecimal totalAmount = new BigDecimal(request.get("totalAmount").toString());
-            String paymentStatus = (String) request.get("paymentStatus");
-            String transactionId = (String) request.get("transactionId");
-            List<Map<String, Object>> orderItemsList = (List<Map<String, Object>>) request.get("orderItems");
-            
-            System.out.println("Extracted data - Customer: " + customerMap + ", Seller: " + sellerMap + ", Total: " + totalAmount + ", Items: " + orderItemsList);
-            
-            if (customerMap == null || sellerMap == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            Integer customerId = (Integer) customerMap.get("customerId");
-            Integer sellerId = (Integer) sellerMap.get("sellerId");
-            
-            // Try alternative field names if the primary ones are not found
-            if (customerId == null) {
-                customerId = (Integer) customerMap.get("customer_id");
-            }
-            if (sellerId == null) {
-                sellerId = (Integer) sellerMap.get("seller_id");
-            }
-            
-            if (customerId == null || sellerId == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // Create order DTO
-            OrderDto orderDto = new OrderDto();
-            
-            // Set customer and seller IDs
-            orderDto.setCustomerId(customerId);
-            orderDto.setSellerId(sellerId);
-            
-            System.out.println("Setting customer ID: " + customerId + ", seller ID: " + sellerId);
-            
-            // Set other fields
-            System.out.println("Received totalAmount from frontend: " + totalAmount);
-            
-            // Calculate total from order items to verify
-            BigDecimal calculatedTotal = BigDecimal.ZERO;
-            if (orderItemsList != null) {
-                for (Map<String, Object> itemMap : orderItemsList) {
-                    Integer quantity = (Integer) itemMap.get("quantity");
-                    BigDecimal pricePerUnit = new BigDecimal(itemMap.get("pricePerUnit").toString());
-                    BigDecimal itemTotal = pricePerUnit.multiply(new BigDecimal(quantity));
-                    calculatedTotal = calculatedTotal.add(itemTotal);
-                    System.out.println("Item: qty=" + quantity + ", price=" + pricePerUnit + ", itemTotal=" + itemTotal);
-                }
-            }
-            System.out.println("Calculated total from items: " + calculatedTotal);
-            System.out.println("Frontend total: " + totalAmount);
-            System.out.println("Difference: " + totalAmount.subtract(calculatedTotal));
-            
-            orderDto.setTotalAmount(totalAmount);
-            orderDto.setDeliveryCharge(BigDecimal.ZERO);
-            orderDto.setTransactionId(transactionId);
-            
-            // Set timestamps
-            LocalDateTime now = LocalDateTime.now();
-            orderDto.setCreatedAt(now);
-            orderDto.setUpdatedAt(now);
-            
-            // Set payment status
-            if (paymentStatus != null) {
-                try {
-                    orderDto.setPaymentStatus(PaymentStatus.valueOf(paymentStatus));
-                } catch (IllegalArgumentException e) {
-                    orderDto.setPaymentStatus(PaymentStatus.PAID);
-                }
-            } else {
-                orderDto.setPaymentStatus(PaymentStatus.PAID);
-            }
-            
-            // Create order items
-            List<com.sunbeam.dto.OrderItemDto> orderItems = new ArrayList<>();
-            if (orderItemsList != null) {
-                for (Map<String, Object> itemMap : orderItemsList) {
-                    Map<String, Object> productMap = (Map<String, Object>) itemMap.get("product");
-                    Integer productId = (Integer) productMap.get("productId");
-                    
-                    // Try alternative field name if the primary one is not found
-                    if (productId == null) {
-                        productId = (Integer) productMap.get("product_id");
-                    }
-                    
-                    Integer quantity = (Integer) itemMap.get("quantity");
-                    BigDecimal pricePerUnit = new BigDecimal(itemMap.get("pricePerUnit").toString());
-                    
-                    if (productId == null || quantity == null || pricePerUnit == null) {
-                        return ResponseEntity.badRequest().build();
-                    }
-                    
-                    com.sunbeam.dto.OrderItemDto orderItemDto = new com.sunbeam.dto.OrderItemDto();
-                    
-                    // Set product ID
-                    orderItemDto.setProductId(productId);
-                    
-                    orderItemDto.setQuantity(quantity);
-                    orderItemDto.setPricePerUnit(pricePerUnit);
-                    orderItemDto.setCreatedAt(now); // Set timestamp for order item
-                    
-                    orderItems.add(orderItemDto);
-                    
-                    System.out.println("Created order item for product ID: " + productId + ", quantity: " + quantity + ", price: " + pricePerUnit);
-                }
-            }
-            
-            orderDto.setOrderItems(orderItems);
-            
-            System.out.println("Creating order with service...");
-            OrderDto createdOrder = orderService.createOrder(orderDto);
-            System.out.println("Order created successfully with ID: " + createdOrder.getOrderId());
-            System.out.println("Final order total: " + createdOrder.getTotalAmount());
+            OrderDto createdOrder = orderService.createOrder(request.toDto());
             return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
         } catch (Exception e) {
             System.err.println("Error creating order: " + e.getMessage());
-            e.printStackTrace();
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -214,4 +102,75 @@ public class OrderController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-} 
\ No newline at end of file
+    
+    // paged flat summaries when ?page= is given; details per order come from GET /api/orders/{id}
+    @GetMapping(value = "/customer/{customerId}", params = "page")
+    public ResponseEntity<Page<OrderSummaryDto>> getCustomerOrderSummaries(@PathVariable Integer customerId,
+            @RequestParam int page, @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(orderService.findCustomerOrderSummaries(customerId, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping(value = "/seller/{sellerId}", params = "page")
+    public ResponseEntity<Page<OrderSummaryDto>> getSellerOrderSummaries(@PathVariable Integer sellerId,
+            @RequestParam int page, @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(orderService.findSellerOrderSummaries(sellerId, page, size));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // dashboard tiles without loading the order list: one row per payment status with count and total
+    @GetMapping("/seller/{sellerId}/status-totals")
+    public ResponseEntity<List<OrderStatusTotalDto>> getSellerStatusTotals(@PathVariable Integer sellerId) {
+        try {
+            return ResponseEntity.ok(orderService.findSellerStatusTotals(sellerId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /*
+     * Keyset paginated, optionally date bounded order feeds - newest first, body is a JSON array
+     * and the cursor for the next page travels in the X-Next-Cursor header (absent on the last page)
+     */
+    @GetMapping("/seller/{sellerId}/feed")
+    public ResponseEntity<List<OrderDto>> getSellerOrderFeed(@PathVariable Integer sellerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return feedResponse(orderService.findSellerFeed(sellerId, from, to, cursor, limit));
+        } catch (InvalidInputException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/customer/{customerId}/feed")
+    public ResponseEntity<List<OrderDto>> getCustomerOrderFeed(@PathVariable Integer customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return feedResponse(orderService.findCustomerFeed(customerId, from, to, cursor, limit));
+        } catch (InvalidInputException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    private static ResponseEntity<List<OrderDto>> feedResponse(OrderSliceDto page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(ProductController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getContent());
+    }
+}
@@ -1,12 +1,16 @@
 package com.sunbeam.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,10 +21,19 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import com.sunbeam.custom_exceptions.InvalidInputException;
+import com.sunbeam.dto.CreateProductRequest;
 import com.sunbeam.dto.ProductDto;
+import com.sunbeam.dto.ProductSliceDto;
 import com.sunbeam.service.ProductService;
 
+import jakarta.validation.Valid;
+
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
@@ -28,10 +41,79 @@ public class ProductController {
     @Autowired
     private ProductService productService;
     
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    public static final String NDJSON = "application/x-ndjson";
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /*
+     * Keyset paginated catalog - body stays a JSON array, the cursor for the
+     * next page travels in the X-Next-Cursor header (absent on the last page)
+     */
     @GetMapping
-    public ResponseEntity<List<ProductDto>> getAllProducts() {
+    public ResponseEntity<List<ProductDto>> getAllProducts(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            ProductSliceDto page = productService.findPage(cursor, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getContent());
+        } catch (InvalidInputException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /*
+     * Whole catalog as newline delimited JSON, written while rows are read from a
+     * streaming JDBC cursor - heap use does not grow with the catalog
+     */
+    @GetMapping(params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        StreamingResponseBody body = out -> {
+            SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out);
+            productService.streamAll(product -> {
+                try {
+                    writer.write(product);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            out.write('\n');
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductDto>> searchProducts(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minStock,
+            @RequestParam(required = false) String unit,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<ProductDto> products = productService.findAll();
+            Page<ProductDto> products = productService.searchProducts(name, category, minPrice, maxPrice, minStock, unit,
+                    PageRequest.of(Math.max(page, 0), Math.max(size, 1)));
+            return ResponseEntity.ok(products);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/search/text")
+    public ResponseEntity<List<ProductDto>> fullTextSearch(@RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            List<ProductDto> products = productService.fullTextSearch(q, limit);
             return ResponseEntity.ok(products);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -53,60 +135,12 @@ public class ProductController {
     }
     
     @PostMapping
-    public ResponseEntity<ProductDto> addProduct(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<ProductDto> addProduct(@Valid @RequestBody CreateProductRequest request) {
         try {
-            System.out.println("Received product request: " + request);
-            
-            // Extract product data from request
-            String name = (String) request.get("name");
-            String description = (String) request.get("description");
-            BigDecimal price = new BigDecimal(request.get("price").toString());
-            String unit = (String) request.get("unit");
-            Integer stock = (Integer) request.get("stock");
-            String imageUrl = (String) request.get("imageUrl");
-            
-            // Handle category
-            Object categoryObj = request.get("category");
-            Integer categoryId = null;
-            if (categoryObj instanceof Map) {
-                categoryId = (Integer) ((Map<?, ?>) categoryObj).get("categoryId");
-            } else if (categoryObj instanceof Integer) {
-                categoryId = (Integer) categoryObj;
-            }
-            
-            // Handle seller
-            Object sellerObj = request.get("seller");
-            Integer sellerId = null;
-            if (sellerObj instanceof Map) {
-                // Try both sellerId and seller_id to handle frontend variations
-                sellerId = (Integer) ((Map<?, ?>) sellerObj).get("sellerId");
-                if (sellerId == null) {
-                    sellerId = (Integer) ((Map<?, ?>) sellerObj).get("seller_id");
-                }
-            } else if (sellerObj instanceof Integer) {
-                sellerId = (Integer) sellerObj;
-            }
-            
-            if (name == null || price == null || unit == null || stock == null) {
-                return ResponseEntity.badRequest().build();
-            }
-            
-            // Create product DTO
-            ProductDto productDto = new ProductDto();
-            productDto.setName(name);
-            productDto.setDescription(description);
-            productDto.setPrice(price);
-            productDto.setUnit(unit);
-            productDto.setStock(stock);
-            productDto.setImageUrl(imageUrl);
-            productDto.setCategoryId(categoryId);
-            productDto.setSellerId(sellerId);
-            
-            ProductDto createdProduct = productService.addProduct(productDto);
+            ProductDto createdProduct = productService.addProduct(request.toDto());
             return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
         } catch (Exception e) {
             System.err.println("Error creating product: " + e.getMessage());
-            e.printStackTrace();
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
@@ -140,4 +174,24 @@ public class ProductController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    // threshold defaults to product.stock.low-threshold; live crossings are pushed on /api/sellers/{sellerId}/stock-alerts
+    @GetMapping("/seller/{sellerId}/low-stock")
+    public ResponseEntity<List<ProductDto>> getLowStockProductsBySeller(@PathVariable Integer sellerId,
+            @RequestParam(required = false) Integer threshold) {
+        try {
+            return ResponseEntity.ok(productService.getProductsWithLowStockBySeller(sellerId, threshold));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/seller/{sellerId}/out-of-stock")
+    public ResponseEntity<List<ProductDto>> getOutOfStockProductsBySeller(@PathVariable Integer sellerId) {
+        try {
+            return ResponseEntity.ok(productService.getOutOfStockProductsBySeller(sellerId));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.sunbeam.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sunbeam.custom_exceptions.InvalidInputException;
+import com.sunbeam.custom_exceptions.ResourceNotFoundException;
+import com.sunbeam.dto.ApiResponse;
+import com.sunbeam.dto.SellerAnalyticsDto;
+import com.sunbeam.service.SellerAnalyticsService;
+
+@RestController
+@RequestMapping("/api/sellers")
+public class SellerAnalyticsController {
+    
+    @Autowired
+    private SellerAnalyticsService sellerAnalyticsService;
+    
+    // dashboard figures for the days from..to (inclusive, default the last 30), granularity day | hour
+    @GetMapping("/{sellerId}/analytics")
+    public ResponseEntity<SellerAnalyticsDto> getSellerAnalytics(@PathVariable Integer sellerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity, @RequestParam(defaultValue = "5") int top,
+            Authentication authentication) {
+        // the path id is caller supplied - a seller only sees their own sales
+        if (!sellerAnalyticsService.isOwnAnalytics(sellerId, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(sellerAnalyticsService.getAnalytics(sellerId, from, to, granularity, top));
+        } catch (InvalidInputException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // rebuild the caller's rollups of past days from the orders table (to is exclusive and capped at today)
+    @PostMapping("/{sellerId}/analytics/backfill")
+    public ResponseEntity<ApiResponse> backfillSellerAnalytics(@PathVariable Integer sellerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        // deletes n rewrites rollup rows - only ever the caller's own
+        if (!sellerAnalyticsService.isOwnAnalytics(sellerId, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            int orders = sellerAnalyticsService.backfill(sellerId, from, to);
+            return ResponseEntity.ok(new ApiResponse("Seller sales rollups rebuilt from " + orders + " orders"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sunbeam.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sunbeam.service.StockAlertService;
+
+@RestController
+@RequestMapping("/api/sellers")
+public class StockAlertController {
+    
+    @Autowired
+    private StockAlertService stockAlertService;
+    
+    // server-sent "low-stock" events whenever one of the seller's products drops to the threshold or to zero
+    @GetMapping(value = "/{sellerId}/stock-alerts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStockAlerts(@PathVariable Integer sellerId, Authentication authentication) {
+        // the path id is caller supplied - a seller only gets the stream for their own products
+        if (!stockAlertService.isOwnStream(sellerId, authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(stockAlertService.subscribe(sellerId));
+    }
+}
@@ -0,0 +1,24 @@
+package com.sunbeam.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Set-based cart writes for the write-behind cart buffer, mixed into CartDao.
+ * Every line is an upsert on unique_cart_item (customer_id, product_id).
+ */
+public interface CartBatchDao {
+    
+    /**
+     * One buffered line - quantity replaces the stored one when absolute (0 or less deletes the line),
+     * otherwise it is added to it
+     */
+    record PendingLine(Integer customerId, Integer productId, int quantity, boolean absolute) {
+    }
+    
+    /**
+     * Write the lines as at most three JDBC batches (deletes, replacing upserts, adding upserts),
+     * in (customer, product) order so concurrent flushes lock rows in the same order
+     */
+    void applyPendingLines(Collection<PendingLine> lines, LocalDateTime now);
+}
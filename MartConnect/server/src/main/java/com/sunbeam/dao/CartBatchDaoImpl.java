@@ -0,0 +1,59 @@
+package com.sunbeam.dao;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JdbcTemplate backed CartBatchDao fragment - joins the surrounding transaction's connection
+ */
+public class CartBatchDaoImpl implements CartBatchDao {
+    
+    private static final String DELETE_LINE_SQL = "DELETE FROM cart WHERE customer_id = ? AND product_id = ?";
+    
+    private static final String SET_LINE_SQL =
+            "INSERT INTO cart (customer_id, product_id, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE quantity = VALUES(quantity), updated_at = VALUES(updated_at)";
+    
+    private static final String ADD_LINE_SQL =
+            "INSERT INTO cart (customer_id, product_id, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), updated_at = VALUES(updated_at)";
+    
+    private static final Comparator<PendingLine> LINE_ORDER = Comparator
+            .comparing(PendingLine::customerId)
+            .thenComparing(PendingLine::productId);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void applyPendingLines(Collection<PendingLine> lines, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> sets = new ArrayList<>();
+        List<Object[]> adds = new ArrayList<>();
+        lines.stream().sorted(LINE_ORDER).forEach(line -> {
+            if (line.absolute() && line.quantity() <= 0) {
+                deletes.add(new Object[] { line.customerId(), line.productId() });
+            } else {
+                (line.absolute() ? sets : adds).add(new Object[] { line.customerId(), line.productId(),
+                        line.quantity(), timestamp, timestamp });
+            }
+        });
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_LINE_SQL, deletes);
+        }
+        if (!sets.isEmpty()) {
+            jdbcTemplate.batchUpdate(SET_LINE_SQL, sets);
+        }
+        if (!adds.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_LINE_SQL, adds);
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.sunbeam.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sunbeam.dto.CartItemDto;
 import com.sunbeam.entities.Cart;
 
 @Repository
-public interface CartDao extends JpaRepository<Cart, Integer> {
+public interface CartDao extends JpaRepository<Cart, Integer>, CartBatchDao {
     
     /**
      * Find cart items by customer
@@ -21,6 +25,37 @@ public interface CartDao extends JpaRepository<Cart, Integer> {
      */
     List<Cart> findByCustomer_CustomerIdAndProduct_ProductId(Integer customerId, Integer productId);
     
+    /**
+     * Every cart line of a customer with its product, category and seller columns - one joined select
+     */
+    @Query("SELECT new com.sunbeam.dto.CartItemDto(c.cartId, c.customer.customerId, p.productId, c.quantity, "
+            + "c.createdAt, c.updatedAt, p.name, p.imageUrl, p.price, p.unit, cat.name, s.sellerId, "
+            + "CONCAT(s.firstName, ' ', s.lastName), s.shopName, p.stock) "
+            + "FROM Cart c JOIN c.product p JOIN p.category cat JOIN p.seller s "
+            + "WHERE c.customer.customerId = :customerId ORDER BY c.cartId")
+    List<CartItemDto> findItemsByCustomer(@Param("customerId") Integer customerId);
+    
+    /**
+     * Product id plus the customer's cart line id and quantity for it (both null when not in the cart) -
+     * no row when the product does not exist
+     */
+    @Query("SELECT p.productId, c.cartId, c.quantity FROM Product p "
+            + "LEFT JOIN Cart c ON c.product = p AND c.customer.customerId = :customerId WHERE p.productId = :productId")
+    List<Object[]> findLineState(@Param("customerId") Integer customerId, @Param("productId") Integer productId);
+    
+    /**
+     * Customer id and product id of a cart line
+     */
+    @Query("SELECT c.customer.customerId, c.product.productId FROM Cart c WHERE c.cartId = :cartId")
+    List<Object[]> findLineKey(@Param("cartId") Integer cartId);
+    
+    /**
+     * Remove exactly these lines (the ones a checkout ordered) in one statement
+     */
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.cartId IN :cartIds")
+    int deleteByCartIdIn(@Param("cartIds") Collection<Integer> cartIds);
+    
     /**
      * Count cart items by customer
      */
@@ -3,22 +3,38 @@ package com.sunbeam.dao;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.sunbeam.cache.SecondLevelCacheConfiguration;
 import com.sunbeam.entities.Category;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CategoryDao extends JpaRepository<Category, Integer> {
     
+    /**
+     * All categories, served from the query cache until the categories table changes
+     */
+    @Override
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfiguration.CATEGORY_QUERY_REGION) })
+    List<Category> findAll();
+    
     /**
      * Find category by name
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfiguration.CATEGORY_QUERY_REGION) })
     Optional<Category> findByName(String name);
     
     /**
      * Check if category exists by name
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfiguration.CATEGORY_QUERY_REGION) })
     boolean existsByName(String name);
-} 
\ No newline at end of file
+}
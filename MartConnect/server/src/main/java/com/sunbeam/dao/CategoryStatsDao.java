@@ -0,0 +1,10 @@
+package com.sunbeam.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.sunbeam.entities.CategoryStats;
+
+@Repository
+public interface CategoryStatsDao extends JpaRepository<CategoryStats, Integer>, CategoryStatsUpdateDao {
+}
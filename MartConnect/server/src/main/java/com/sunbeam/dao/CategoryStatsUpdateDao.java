@@ -0,0 +1,39 @@
+package com.sunbeam.dao;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.sunbeam.entities.CategoryStats;
+
+/**
+ * Set-based category_stats writes, mixed into CategoryStatsDao. Every change is a single
+ * atomic statement on the category's row, so concurrent product writes cannot lose updates.
+ */
+public interface CategoryStatsUpdateDao {
+    
+    /**
+     * Count one more product (creating the row on first use)
+     */
+    void addProduct(Integer categoryId, BigDecimal price, boolean inStock, LocalDateTime now);
+    
+    /**
+     * Count one product less; min / max are re-read from products only when the removed price was an extreme
+     */
+    void removeProduct(Integer categoryId, BigDecimal price, boolean inStock, LocalDateTime now);
+    
+    /**
+     * Shift in-stock counts (category id -> delta) in a single JDBC batch
+     */
+    void adjustInStock(Map<Integer, Integer> deltaByCategory, LocalDateTime now);
+    
+    /**
+     * Aggregates as they should be, computed from a full products scan (category id -> stats)
+     */
+    Map<Integer, CategoryStats> computeFromProducts();
+    
+    /**
+     * Replace every row with aggregates computed from products - returns the number of categories written
+     */
+    int rebuildFromProducts(LocalDateTime now);
+}
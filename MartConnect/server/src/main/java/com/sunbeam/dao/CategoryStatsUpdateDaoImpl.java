@@ -0,0 +1,102 @@
+package com.sunbeam.dao;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunbeam.entities.CategoryStats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * JdbcTemplate backed CategoryStatsUpdateDao fragment - joins the surrounding JPA transaction's connection
+ */
+public class CategoryStatsUpdateDaoImpl implements CategoryStatsUpdateDao {
+    
+    private static final String ADD_PRODUCT_SQL =
+            "INSERT INTO category_stats (category_id, product_count, in_stock_count, price_sum, min_price, max_price, updated_at) "
+            + "VALUES (?, 1, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE product_count = product_count + 1, "
+            + "in_stock_count = in_stock_count + VALUES(in_stock_count), price_sum = price_sum + VALUES(price_sum), "
+            + "min_price = LEAST(COALESCE(min_price, VALUES(min_price)), VALUES(min_price)), "
+            + "max_price = GREATEST(COALESCE(max_price, VALUES(max_price)), VALUES(max_price)), updated_at = VALUES(updated_at)";
+    
+    private static final String REMOVE_PRODUCT_SQL =
+            "UPDATE category_stats SET product_count = product_count - 1, in_stock_count = in_stock_count - ?, "
+            + "price_sum = price_sum - ?, updated_at = ? WHERE category_id = ?";
+    
+    private static final String REFRESH_EXTREMES_SQL =
+            "UPDATE category_stats SET min_price = (SELECT MIN(p.price) FROM products p WHERE p.category_id = ?), "
+            + "max_price = (SELECT MAX(p.price) FROM products p WHERE p.category_id = ?) "
+            + "WHERE category_id = ? AND (min_price >= ? OR max_price <= ?)";
+    
+    private static final String ADJUST_IN_STOCK_SQL =
+            "UPDATE category_stats SET in_stock_count = in_stock_count + ?, updated_at = ? WHERE category_id = ?";
+    
+    private static final String AGGREGATE_COLUMNS =
+            "category_id, COUNT(*), SUM(CASE WHEN stock > 0 THEN 1 ELSE 0 END), SUM(price), MIN(price), MAX(price)";
+    
+    private static final String AGGREGATE_SELECT = "SELECT " + AGGREGATE_COLUMNS + " FROM products GROUP BY category_id";
+    
+    private static final String REBUILD_SQL =
+            "INSERT INTO category_stats (category_id, product_count, in_stock_count, price_sum, min_price, max_price, updated_at) "
+            + "SELECT " + AGGREGATE_COLUMNS + ", ? FROM products GROUP BY category_id";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public void addProduct(Integer categoryId, BigDecimal price, boolean inStock, LocalDateTime now) {
+        jdbcTemplate.update(ADD_PRODUCT_SQL, categoryId, inStock ? 1 : 0, price, price, price, Timestamp.valueOf(now));
+    }
+    
+    @Override
+    public void removeProduct(Integer categoryId, BigDecimal price, boolean inStock, LocalDateTime now) {
+        // the extremes are re-read from products, so pending product changes must be written first
+        entityManager.flush();
+        jdbcTemplate.update(REMOVE_PRODUCT_SQL, inStock ? 1 : 0, price, Timestamp.valueOf(now), categoryId);
+        jdbcTemplate.update(REFRESH_EXTREMES_SQL, categoryId, categoryId, categoryId, price, price);
+    }
+    
+    @Override
+    public void adjustInStock(Map<Integer, Integer> deltaByCategory, LocalDateTime now) {
+        if (deltaByCategory.isEmpty()) {
+            return;
+        }
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(deltaByCategory.size());
+        for (Map.Entry<Integer, Integer> entry : deltaByCategory.entrySet()) {
+            args.add(new Object[] { entry.getValue(), updatedAt, entry.getKey() });
+        }
+        jdbcTemplate.batchUpdate(ADJUST_IN_STOCK_SQL, args);
+    }
+    
+    @Override
+    public Map<Integer, CategoryStats> computeFromProducts() {
+        entityManager.flush();
+        Map<Integer, CategoryStats> statsByCategory = new LinkedHashMap<>();
+        jdbcTemplate.query(AGGREGATE_SELECT, rs -> {
+            CategoryStats stats = new CategoryStats(rs.getInt(1), rs.getInt(2), rs.getInt(3),
+                    rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getBigDecimal(6), null);
+            statsByCategory.put(stats.getCategoryId(), stats);
+        });
+        return statsByCategory;
+    }
+    
+    @Override
+    public int rebuildFromProducts(LocalDateTime now) {
+        entityManager.flush();
+        jdbcTemplate.update("DELETE FROM category_stats");
+        return jdbcTemplate.update(REBUILD_SQL, Timestamp.valueOf(now));
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -26,4 +28,11 @@ public interface CustomerDao extends JpaRepository<Customer, Integer> {
      * Check if customer exists by phone
      */
     boolean existsByPhone(String phone);
-} 
\ No newline at end of file
+    
+    /**
+     * Replace the stored password hash (rehash on login)
+     */
+    @Modifying
+    @Query("UPDATE Customer c SET c.password = :password WHERE c.customerId = :customerId")
+    int updatePassword(@Param("customerId") Integer customerId, @Param("password") String password);
+}
\ No newline at end of file
@@ -1,26 +1,147 @@
 package com.sunbeam.dao;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sunbeam.dto.OrderSalesLine;
+import com.sunbeam.dto.OrderStatusTotalDto;
+import com.sunbeam.dto.OrderSummaryDto;
 import com.sunbeam.entities.Order;
 
 @Repository
 public interface OrderDao extends JpaRepository<Order, Integer> {
     
+    /*
+     * every association is lazy; finders whose result is mapped to OrderDto load
+     * customer, seller, items, item products and their categories through Order.DETAIL_GRAPH
+     */
+    
+    @Override
+    @EntityGraph(Order.DETAIL_GRAPH)
+    Optional<Order> findById(Integer id);
+    
+    @Override
+    @EntityGraph(Order.DETAIL_GRAPH)
+    List<Order> findAll();
+    
     /**
      * Find orders by seller with customer and order items
      */
-    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.customer LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product WHERE o.seller.sellerId = :sellerId")
+    @EntityGraph(Order.DETAIL_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.seller.sellerId = :sellerId")
     List<Order> findBySellerWithCustomerAndItems(@Param("sellerId") Integer sellerId);
     
     /**
      * Find orders by customer with seller and order items
      */
-    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.seller LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product WHERE o.customer.customerId = :customerId")
+    @EntityGraph(Order.DETAIL_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.customer.customerId = :customerId")
     List<Order> findByCustomerWithSellerAndItems(@Param("customerId") Integer customerId);
-} 
\ No newline at end of file
+    
+    /**
+     * Select list used by the summary queries - only the columns an order list row shows
+     */
+    String SUMMARY_SELECT = "SELECT new com.sunbeam.dto.OrderSummaryDto(o.orderId, o.orderDate, o.paymentStatus, o.totalAmount, "
+            + "o.deliveryCharge, o.transactionId, c.customerId, CONCAT(c.firstName, ' ', c.lastName), c.address, s.sellerId, s.shopName, "
+            + "(SELECT COUNT(oi) FROM OrderItem oi WHERE oi.order = o)) "
+            + "FROM Order o JOIN o.customer c JOIN o.seller s ";
+    
+    /**
+     * Page of flat order summaries for a seller
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE s.sellerId = :sellerId",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.seller.sellerId = :sellerId")
+    Page<OrderSummaryDto> findSummariesBySeller(@Param("sellerId") Integer sellerId, Pageable pageable);
+    
+    /**
+     * Page of flat order summaries for a customer
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE c.customerId = :customerId",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.customer.customerId = :customerId")
+    Page<OrderSummaryDto> findSummariesByCustomer(@Param("customerId") Integer customerId, Pageable pageable);
+    
+    /**
+     * Order count and summed total per payment status for a seller - one grouped row per status
+     */
+    @Query("SELECT new com.sunbeam.dto.OrderStatusTotalDto(o.paymentStatus, COUNT(o), COALESCE(SUM(o.totalAmount), 0)) "
+            + "FROM Order o WHERE o.seller.sellerId = :sellerId GROUP BY o.paymentStatus")
+    List<OrderStatusTotalDto> findStatusTotalsBySeller(@Param("sellerId") Integer sellerId);
+    
+    /**
+     * Keyset phase 1: ids of a seller's orders in [from, to) strictly after the (afterDate, afterId) position,
+     * newest first - index only, so the database can apply the LIMIT
+     */
+    @Query("SELECT o.orderId FROM Order o WHERE o.seller.sellerId = :sellerId "
+            + "AND o.orderDate >= :from AND o.orderDate < :to "
+            + "AND (o.orderDate < :afterDate OR (o.orderDate = :afterDate AND o.orderId < :afterId)) "
+            + "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Integer> findSellerFeedIds(@Param("sellerId") Integer sellerId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Integer afterId, Pageable pageable);
+    
+    /**
+     * Keyset phase 1: ids of a customer's orders in [from, to) strictly after the (afterDate, afterId) position,
+     * newest first
+     */
+    @Query("SELECT o.orderId FROM Order o WHERE o.customer.customerId = :customerId "
+            + "AND o.orderDate >= :from AND o.orderDate < :to "
+            + "AND (o.orderDate < :afterDate OR (o.orderDate = :afterDate AND o.orderId < :afterId)) "
+            + "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Integer> findCustomerFeedIds(@Param("customerId") Integer customerId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Integer afterId, Pageable pageable);
+    
+    /**
+     * Keyset phase 2: one page of orders with customer, seller, items and item products (order not guaranteed)
+     */
+    @EntityGraph(Order.DETAIL_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.orderId IN :ids")
+    List<Order> findWithDetailsByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Date of the oldest order, null when there are none
+     */
+    @Query("SELECT MIN(o.orderDate) FROM Order o")
+    LocalDateTime findFirstOrderDate();
+    
+    /**
+     * Date of the seller's oldest order, null when there are none - from idx_orders_seller_date
+     */
+    @Query("SELECT MIN(o.orderDate) FROM Order o WHERE o.seller.sellerId = :sellerId")
+    LocalDateTime findFirstOrderDateOfSeller(@Param("sellerId") Integer sellerId);
+    
+    /**
+     * Backfill chunking: ids of orders placed in [from, to) after afterId, ascending
+     */
+    @Query("SELECT o.orderId FROM Order o WHERE o.orderDate >= :from AND o.orderDate < :to AND o.orderId > :afterId "
+            + "ORDER BY o.orderId")
+    List<Integer> findIdsPlacedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("afterId") Integer afterId, Pageable pageable);
+    
+    /**
+     * Same chunking for one seller's orders - a range of idx_orders_seller_date
+     */
+    @Query("SELECT o.orderId FROM Order o WHERE o.seller.sellerId = :sellerId AND o.orderDate >= :from AND o.orderDate < :to "
+            + "AND o.orderId > :afterId ORDER BY o.orderId")
+    List<Integer> findIdsOfSellerPlacedBetween(@Param("sellerId") Integer sellerId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, @Param("afterId") Integer afterId, Pageable pageable);
+    
+    /**
+     * Flat sales lines of these orders (one per item, one with null item columns for an empty order) -
+     * scalar columns only, nothing enters the persistence context
+     */
+    @Query("SELECT new com.sunbeam.dto.OrderSalesLine(o.orderId, o.seller.sellerId, o.orderDate, o.totalAmount, "
+            + "oi.product.productId, oi.quantity, oi.pricePerUnit) "
+            + "FROM Order o LEFT JOIN o.orderItems oi WHERE o.orderId IN :ids ORDER BY o.orderId")
+    List<OrderSalesLine> findSalesLinesByIdIn(@Param("ids") Collection<Integer> ids);
+}
@@ -0,0 +1,40 @@
+package com.sunbeam.dao;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.sunbeam.entities.Order;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves the pooled order id sequences past ids already in the tables (rows written under
+ * AUTO_INCREMENT or by SQL scripts), before the web server starts taking requests
+ */
+@Component
+@Slf4j
+public class OrderIdSequenceAligner implements SmartInitializingSingleton {
+    
+    // pooled optimizer treats next_val as the top of the next block, so block start = next_val - size + 1
+    private static final String ALIGN_SQL = "UPDATE %1$s SET next_val = (SELECT COALESCE(MAX(%3$s), 0) FROM %2$s) + ? "
+            + "WHERE next_val < (SELECT COALESCE(MAX(%3$s), 0) FROM %2$s) + ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        align("orders_seq", "orders", "order_id");
+        align("order_items_seq", "order_items", "order_item_id");
+    }
+    
+    private void align(String sequenceTable, String table, String idColumn) {
+        int size = Order.ID_ALLOCATION_SIZE;
+        int updated = jdbcTemplate.update(String.format(ALIGN_SQL, sequenceTable, table, idColumn), size, size);
+        if (updated > 0) {
+            log.info("Advanced {} past existing {} ids", sequenceTable, table);
+        }
+    }
+}
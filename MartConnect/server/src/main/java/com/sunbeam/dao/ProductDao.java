@@ -1,38 +1,142 @@
 package com.sunbeam.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.sunbeam.dto.ProductDto;
 import com.sunbeam.entities.Product;
+import com.sunbeam.search.ProductIndexDocument;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface ProductDao extends JpaRepository<Product, Integer> {
+public interface ProductDao extends JpaRepository<Product, Integer>, JpaSpecificationExecutor<Product>, ProductStockDao {
+    
+    /*
+     * category and seller are lazy; every finder whose result is mapped to ProductDto
+     * loads the category in the same select through Product.WITH_CATEGORY_GRAPH
+     */
+    
+    @Override
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
+    List<Product> findAll();
+    
+    @Override
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
+    List<Product> findAllById(Iterable<Integer> ids);
+    
+    @Override
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
+    List<Product> findAll(Specification<Product> spec);
+    
+    @Override
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
+    Page<Product> findAll(Specification<Product> spec, Pageable pageable);
+    
+    /**
+     * Product detail - product and category in one select
+     */
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
+    Optional<Product> findWithCategoryByProductId(Integer productId);
     
     /**
      * Find products by name
      */
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
     List<Product> findByNameContainingIgnoreCase(String name);
     
     /**
      * Find products by category
      */
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
     List<Product> findByCategory_NameContainingIgnoreCase(String categoryName);
     
     /**
      * Find products by seller
      */
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
     List<Product> findBySeller_SellerId(Integer sellerId);
     
+    /**
+     * A seller's products with stock at or below the threshold, emptiest first - range scan on (seller_id, stock)
+     */
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
+    @Query("SELECT p FROM Product p WHERE p.seller.sellerId = :sellerId AND p.stock <= :threshold ORDER BY p.stock, p.productId")
+    List<Product> findLowStockBySeller(@Param("sellerId") Integer sellerId, @Param("threshold") Integer threshold);
+    
+    /**
+     * A seller's products with exactly this stock (0 for out of stock) - equality on (seller_id, stock)
+     */
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
+    @Query("SELECT p FROM Product p WHERE p.seller.sellerId = :sellerId AND p.stock = :stock ORDER BY p.productId")
+    List<Product> findBySellerAndStock(@Param("sellerId") Integer sellerId, @Param("stock") Integer stock);
+    
     /**
      * Find products by name or description containing search term
      */
+    @EntityGraph(Product.WITH_CATEGORY_GRAPH)
     @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Product> findByNameOrDescriptionContaining(@Param("searchTerm") String searchTerm);
     
-
-} 
\ No newline at end of file
+    /**
+     * Load several products with their category in one query
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.productId IN :ids")
+    List<Product> findAllWithCategoryByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Category id and count of the given products whose stock is zero, per category
+     */
+    @Query("SELECT p.category.categoryId, COUNT(p) FROM Product p WHERE p.productId IN :ids AND p.stock = 0 GROUP BY p.category.categoryId")
+    List<Object[]> countOutOfStockByCategory(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Id, seller id, name and stock of the given products whose stock is at or below the threshold
+     */
+    @Query("SELECT p.productId, p.seller.sellerId, p.name, p.stock FROM Product p WHERE p.productId IN :ids AND p.stock <= :threshold")
+    List<Object[]> findStockLevelsAtOrBelow(@Param("ids") Collection<Integer> ids, @Param("threshold") int threshold);
+    
+    /**
+     * Fetch size that makes MySQL Connector/J stream rows instead of buffering the whole result
+     */
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+    
+    /**
+     * Stream the searchable columns of every product (caller must close the stream inside a transaction)
+     */
+    @Query("SELECT new com.sunbeam.search.ProductIndexDocument(p.productId, p.name, p.description, c.name, s.shopName) "
+            + "FROM Product p LEFT JOIN p.category c LEFT JOIN p.seller s")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<ProductIndexDocument> streamAllForSearchIndex();
+    
+    /**
+     * Keyset page: products with id greater than afterId, in id order, mapped straight into DTOs
+     */
+    @Query("SELECT new com.sunbeam.dto.ProductDto(p.productId, p.name, p.description, p.price, p.unit, p.stock, p.imageUrl, c.categoryId, c.name, s.sellerId) "
+            + "FROM Product p LEFT JOIN p.category c LEFT JOIN p.seller s WHERE p.productId > :afterId ORDER BY p.productId")
+    List<ProductDto> findDtoPageAfter(@Param("afterId") Integer afterId, Pageable pageable);
+    
+    /**
+     * Stream every product as a DTO in id order (caller must close the stream inside a transaction)
+     */
+    @Query("SELECT new com.sunbeam.dto.ProductDto(p.productId, p.name, p.description, p.price, p.unit, p.stock, p.imageUrl, c.categoryId, c.name, s.sellerId) "
+            + "FROM Product p LEFT JOIN p.category c LEFT JOIN p.seller s ORDER BY p.productId")
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<ProductDto> streamAllDtos();
+}
@@ -0,0 +1,99 @@
+package com.sunbeam.dao;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.sunbeam.entities.Product;
+
+/**
+ * Composable query predicates for Product search.
+ * Each factory returns null when its filter is not supplied, so callers can
+ * combine them with Specification.allOf and only the given filters reach SQL.
+ */
+public final class ProductSpecifications {
+
+    // not a backslash: its quoting in the ESCAPE literal differs between MySQL (sql_mode) and H2
+    private static final char ESCAPE = '!';
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * Name or description containing search term (case insensitive)
+     */
+    public static Specification<Product> nameOrDescriptionContains(String searchTerm) {
+        if (isBlank(searchTerm)) {
+            return null;
+        }
+        String pattern = likePattern(searchTerm);
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("name")), pattern, ESCAPE),
+                cb.like(cb.lower(root.get("description")), pattern, ESCAPE));
+    }
+
+    /**
+     * Category name containing given text (case insensitive)
+     */
+    public static Specification<Product> categoryNameContains(String categoryName) {
+        if (isBlank(categoryName)) {
+            return null;
+        }
+        String pattern = likePattern(categoryName);
+        return (root, query, cb) -> cb.like(cb.lower(root.join("category").get("name")), pattern, ESCAPE);
+    }
+
+    /**
+     * Price greater than or equal to given minimum
+     */
+    public static Specification<Product> priceAtLeast(BigDecimal minPrice) {
+        if (minPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    /**
+     * Price less than or equal to given maximum
+     */
+    public static Specification<Product> priceAtMost(BigDecimal maxPrice) {
+        if (maxPrice == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    /**
+     * Stock greater than or equal to given minimum
+     */
+    public static Specification<Product> stockAtLeast(Integer minStock) {
+        if (minStock == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("stock"), minStock);
+    }
+
+    /**
+     * Unit containing given text (case insensitive)
+     */
+    public static Specification<Product> unitContains(String unit) {
+        if (isBlank(unit)) {
+            return null;
+        }
+        String pattern = likePattern(unit);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("unit")), pattern, ESCAPE);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    // escape LIKE wildcards so the term matches literally, as the old in-memory contains() did
+    private static String likePattern(String value) {
+        String escaped = value.toLowerCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
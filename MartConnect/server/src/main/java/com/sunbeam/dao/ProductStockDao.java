@@ -0,0 +1,16 @@
+package com.sunbeam.dao;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Set-based stock writes that bypass entity load/save, mixed into ProductDao
+ */
+public interface ProductStockDao {
+    
+    /**
+     * Take quantity units of stock from every product (product id -> quantity) whose stock covers it,
+     * in a single JDBC batch - returns rows updated (0 or 1) per entry, in the map's iteration order
+     */
+    int[] decrementStockIfAvailable(Map<Integer, Integer> quantitiesByProduct, LocalDateTime now);
+}
@@ -0,0 +1,44 @@
+package com.sunbeam.dao;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * JdbcTemplate backed ProductStockDao fragment - joins the surrounding JPA transaction's connection
+ */
+public class ProductStockDaoImpl implements ProductStockDao {
+    
+    private static final String DECREMENT_STOCK_SQL =
+            "UPDATE products SET stock = stock - ?, updated_at = ? WHERE product_id = ? AND stock >= ?";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public int[] decrementStockIfAvailable(Map<Integer, Integer> quantitiesByProduct, LocalDateTime now) {
+        if (quantitiesByProduct.isEmpty()) {
+            return new int[0];
+        }
+        // pending entity changes must reach the database before the set-based update
+        entityManager.flush();
+        
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(quantitiesByProduct.size());
+        for (Map.Entry<Integer, Integer> entry : quantitiesByProduct.entrySet()) {
+            args.add(new Object[] { entry.getValue(), updatedAt, entry.getKey(), entry.getValue() });
+        }
+        return jdbcTemplate.batchUpdate(DECREMENT_STOCK_SQL, args);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -46,4 +48,11 @@ public interface SellerDao extends JpaRepository<Seller, Integer> {
      * Check if seller exists by shop name
      */
     boolean existsByShopName(String shopName);
-} 
\ No newline at end of file
+    
+    /**
+     * Replace the stored password hash (rehash on login)
+     */
+    @Modifying
+    @Query("UPDATE Seller s SET s.password = :password WHERE s.sellerId = :sellerId")
+    int updatePassword(@Param("sellerId") Integer sellerId, @Param("password") String password);
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.sunbeam.dao;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.sunbeam.dto.SellerTopProductDto;
+import com.sunbeam.entities.SellerProductSalesRollup;
+
+@Repository
+public interface SellerProductSalesRollupDao extends JpaRepository<SellerProductSalesRollup, SellerProductSalesRollup.Key> {
+    
+    /**
+     * A seller's best selling products over the days [from, to), most units first - the page size is the limit
+     */
+    @Query("SELECT new com.sunbeam.dto.SellerTopProductDto(r.productId, p.name, SUM(r.unitsSold), SUM(r.revenue)) "
+            + "FROM SellerProductSalesRollup r LEFT JOIN Product p ON p.productId = r.productId "
+            + "WHERE r.sellerId = :sellerId AND r.salesDate >= :from AND r.salesDate < :to "
+            + "GROUP BY r.productId, p.name ORDER BY SUM(r.unitsSold) DESC, r.productId")
+    List<SellerTopProductDto> findTopProducts(@Param("sellerId") Integer sellerId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to, Pageable pageable);
+}
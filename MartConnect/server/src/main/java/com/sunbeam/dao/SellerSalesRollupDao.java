@@ -0,0 +1,26 @@
+package com.sunbeam.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.sunbeam.dto.SellerSalesBucketDto;
+import com.sunbeam.entities.SellerSalesRollup;
+import com.sunbeam.entities.SellerSalesRollup.Granularity;
+
+@Repository
+public interface SellerSalesRollupDao extends JpaRepository<SellerSalesRollup, SellerSalesRollup.Key>, SellerSalesRollupUpdateDao {
+    
+    /**
+     * A seller's non-empty buckets in [from, to), oldest first - a primary key range scan
+     */
+    @Query("SELECT new com.sunbeam.dto.SellerSalesBucketDto(r.bucketStart, r.orderCount, r.revenue, r.unitsSold) "
+            + "FROM SellerSalesRollup r WHERE r.sellerId = :sellerId AND r.granularity = :granularity "
+            + "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<SellerSalesBucketDto> findBuckets(@Param("sellerId") Integer sellerId, @Param("granularity") Granularity granularity,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,27 @@
+package com.sunbeam.dao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import com.sunbeam.entities.SellerProductSalesRollup;
+import com.sunbeam.entities.SellerSalesRollup;
+
+/**
+ * Additive seller rollup writes, mixed into SellerSalesRollupDao. Counters are only ever
+ * incremented by single upsert statements, so concurrent orders of one seller cannot lose updates.
+ */
+public interface SellerSalesRollupUpdateDao {
+    
+    /**
+     * Add these deltas onto the stored buckets (creating missing ones) in one JDBC batch per table.
+     * Rows are written in primary key order so two orders of the same seller never lock in opposite order.
+     */
+    void addSales(Collection<SellerSalesRollup> buckets, Collection<SellerProductSalesRollup> productDays, LocalDateTime now);
+    
+    /**
+     * Drop the buckets of one seller (every seller when sellerId is null) for the days from..to
+     * (to exclusive) - returns the number of rows removed
+     */
+    int deleteDays(Integer sellerId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,79 @@
+package com.sunbeam.dao;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunbeam.entities.SellerProductSalesRollup;
+import com.sunbeam.entities.SellerSalesRollup;
+
+/**
+ * JdbcTemplate backed SellerSalesRollupUpdateDao fragment - joins the surrounding JPA transaction's connection
+ */
+public class SellerSalesRollupUpdateDaoImpl implements SellerSalesRollupUpdateDao {
+    
+    private static final String ADD_BUCKET_SQL =
+            "INSERT INTO seller_sales_rollups (seller_id, granularity, bucket_start, order_count, revenue, units_sold, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), "
+            + "revenue = revenue + VALUES(revenue), units_sold = units_sold + VALUES(units_sold), updated_at = VALUES(updated_at)";
+    
+    private static final String ADD_PRODUCT_DAY_SQL =
+            "INSERT INTO seller_product_sales_rollups (seller_id, sales_date, product_id, units_sold, revenue, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE units_sold = units_sold + VALUES(units_sold), "
+            + "revenue = revenue + VALUES(revenue), updated_at = VALUES(updated_at)";
+    
+    private static final Comparator<SellerSalesRollup> BUCKET_ORDER = Comparator
+            .comparing(SellerSalesRollup::getSellerId)
+            .thenComparing(SellerSalesRollup::getGranularity)
+            .thenComparing(SellerSalesRollup::getBucketStart);
+    
+    private static final Comparator<SellerProductSalesRollup> PRODUCT_DAY_ORDER = Comparator
+            .comparing(SellerProductSalesRollup::getSellerId)
+            .thenComparing(SellerProductSalesRollup::getSalesDate)
+            .thenComparing(SellerProductSalesRollup::getProductId);
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void addSales(Collection<SellerSalesRollup> buckets, Collection<SellerProductSalesRollup> productDays,
+            LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        if (!buckets.isEmpty()) {
+            List<Object[]> args = buckets.stream()
+                    .sorted(BUCKET_ORDER)
+                    .map(b -> new Object[] { b.getSellerId(), b.getGranularity().name(), Timestamp.valueOf(b.getBucketStart()),
+                            b.getOrderCount(), b.getRevenue(), b.getUnitsSold(), updatedAt })
+                    .toList();
+            jdbcTemplate.batchUpdate(ADD_BUCKET_SQL, args);
+        }
+        if (!productDays.isEmpty()) {
+            List<Object[]> args = productDays.stream()
+                    .sorted(PRODUCT_DAY_ORDER)
+                    .map(p -> new Object[] { p.getSellerId(), java.sql.Date.valueOf(p.getSalesDate()), p.getProductId(),
+                            p.getUnitsSold(), p.getRevenue(), updatedAt })
+                    .toList();
+            jdbcTemplate.batchUpdate(ADD_PRODUCT_DAY_SQL, args);
+        }
+    }
+    
+    @Override
+    public int deleteDays(Integer sellerId, LocalDate from, LocalDate to) {
+        if (sellerId == null) {
+            int removed = jdbcTemplate.update("DELETE FROM seller_sales_rollups WHERE bucket_start >= ? AND bucket_start < ?",
+                    Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+            return removed + jdbcTemplate.update("DELETE FROM seller_product_sales_rollups WHERE sales_date >= ? AND sales_date < ?",
+                    java.sql.Date.valueOf(from), java.sql.Date.valueOf(to));
+        }
+        int removed = jdbcTemplate.update("DELETE FROM seller_sales_rollups WHERE seller_id = ? AND bucket_start >= ? AND bucket_start < ?",
+                sellerId, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+        return removed + jdbcTemplate.update("DELETE FROM seller_product_sales_rollups WHERE seller_id = ? AND sales_date >= ? AND sales_date < ?",
+                sellerId, java.sql.Date.valueOf(from), java.sql.Date.valueOf(to));
+    }
+}
@@ -0,0 +1,27 @@
+package com.sunbeam.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.Map;
+
+/**
+ * Read-only connections come from the replica while it is within the lag limit, otherwise from the primary
+ */
+public class ReplicaFallbackDataSource extends AbstractRoutingDataSource {
+
+	private final ReplicaLagMonitor lagMonitor;
+
+	public ReplicaFallbackDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+		this.lagMonitor = lagMonitor;
+		setTargetDataSources(Map.of(Boolean.TRUE, replica, Boolean.FALSE, primary));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return lagMonitor.isReplicaUsable();
+	}
+}
@@ -0,0 +1,84 @@
+package com.sunbeam.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the replica's replication delay (SHOW REPLICA STATUS) on a background thread and
+ * reports whether read-only traffic may use it. An unreachable replica, stopped replication
+ * or a delay above maxLag all mean "use the primary" until the next successful check.
+ * Published as datasource.replica.lag (seconds, -1 when unknown) and datasource.replica.usable.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+	private final JdbcTemplate replica;
+	private final long maxLagSeconds;
+	private final ScheduledExecutorService scheduler;
+
+	private volatile boolean usable;
+	private volatile long lagSeconds = -1;
+	private boolean checked;
+
+	public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+		this.replica = new JdbcTemplate(replicaDataSource);
+		this.maxLagSeconds = maxLag.toSeconds();
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "replica-lag-monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds).baseUnit("seconds").register(meterRegistry);
+		Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0).register(meterRegistry);
+		scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	public boolean isReplicaUsable() {
+		return usable;
+	}
+
+	void check() {
+		boolean wasUsable = usable;
+		try {
+			List<Long> lag = replica.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+				long seconds = rs.getLong("Seconds_Behind_Source");
+				return rs.wasNull() ? null : seconds;
+			});
+			if (lag.isEmpty()) {
+				// not configured as a replica (e.g. a standalone stand-in database) - nothing to lag behind
+				lagSeconds = 0;
+				usable = true;
+			} else {
+				Long seconds = lag.get(0);
+				lagSeconds = seconds != null ? seconds : -1;
+				usable = seconds != null && seconds <= maxLagSeconds;
+			}
+		} catch (Exception e) {
+			lagSeconds = -1;
+			usable = false;
+			if (wasUsable || !checked) {
+				log.warn("Replica check failed, routing reads to primary: {}", e.getMessage());
+			}
+		}
+		checked = true;
+		if (wasUsable != usable) {
+			log.info("Replica {} (lag {} s)", usable ? "in use for read-only transactions" : "bypassed", lagSeconds);
+		}
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+}
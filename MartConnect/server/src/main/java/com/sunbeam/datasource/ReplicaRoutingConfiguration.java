@@ -0,0 +1,69 @@
+package com.sunbeam.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Primary / replica DataSource pair, active only when spring.datasource.replica.url is set.
+ *
+ * The application DataSource is a LazyConnectionDataSourceProxy: a physical connection is
+ * only taken at the first statement, once the transaction has marked it read-only, so
+ * {@code @Transactional(readOnly = true)} work goes to the replica and everything else to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReplicaRoutingConfiguration {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	// replica credentials default to the primary's
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica.hikari")
+	HikariDataSource replicaDataSource(DataSourceProperties properties,
+			@Value("${spring.datasource.replica.url}") String url,
+			@Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+			@Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+				.url(url).username(username).password(password).build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean(destroyMethod = "close")
+	ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica, MeterRegistry meterRegistry,
+			@Value("${spring.datasource.replica.max-lag:PT2S}") Duration maxLag,
+			@Value("${spring.datasource.replica.lag-check-interval:PT5S}") Duration checkInterval) {
+		return new ReplicaLagMonitor(replica, maxLag, checkInterval, meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, ReplicaLagMonitor lagMonitor) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(new ReplicaFallbackDataSource(primary, replica, lagMonitor));
+		return dataSource;
+	}
+}
@@ -0,0 +1,43 @@
+package com.sunbeam.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Body of POST /api/areas - the client sends snake_case keys, text fields are trimmed before validation
+ */
+public record AddAreaRequest(
+        @JsonAlias("area_name") @NotBlank(message = "Area name is required") String areaName,
+        @NotBlank(message = "City is required") String city,
+        @NotBlank(message = "State is required") String state,
+        @NotBlank(message = "Pincode is required")
+        @Pattern(regexp = "^[0-9]{6}$", message = "Pincode must be 6 digits") String pincode,
+        @JsonAlias("customer_id") @NotNull(message = "Customer ID is required") Integer customerId) {
+
+    public AddAreaRequest {
+        areaName = trim(areaName);
+        city = trim(city);
+        state = trim(state);
+        pincode = trim(pincode);
+    }
+
+    public AreaDto toDto() {
+        AreaDto areaDto = new AreaDto();
+        areaDto.setAreaName(areaName);
+        areaDto.setCity(city);
+        areaDto.setState(state);
+        areaDto.setPincode(pincode);
+        areaDto.setCustomerId(customerId);
+        areaDto.setCreatedAt(LocalDateTime.now());
+        return areaDto;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+}
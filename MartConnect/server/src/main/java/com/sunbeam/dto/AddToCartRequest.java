@@ -0,0 +1,24 @@
+package com.sunbeam.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Body of POST /api/cart/cart
+ */
+public record AddToCartRequest(
+        @JsonAlias("product_id") @NotNull(message = "Product ID is required") Integer productId,
+        @JsonAlias("customer_id") @NotNull(message = "Customer ID is required") Integer customerId,
+        @NotNull(message = "Quantity is required")
+        @Min(value = 1, message = "Quantity must be at least 1") Integer quantity) {
+
+    public CartDto toDto() {
+        CartDto cartDto = new CartDto();
+        cartDto.setProductId(productId);
+        cartDto.setCustomerId(customerId);
+        cartDto.setQuantity(quantity);
+        return cartDto;
+    }
+}
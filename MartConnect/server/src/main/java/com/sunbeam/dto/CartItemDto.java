@@ -35,7 +35,39 @@ public class CartItemDto {
     private BigDecimal price;
     private String unit;
     private String category;
+    private Integer sellerId;
     private String sellerName;
     private String shopName;
     private BigDecimal totalPrice; // quantity * price
+    private Integer stock;
+    private StockStatus stockStatus;
+    
+    public enum StockStatus {
+        IN_STOCK, INSUFFICIENT_STOCK, OUT_OF_STOCK
+    }
+    
+    /**
+     * Cart view row selected straight from the database (CartDao.findItemsByCustomer) -
+     * totalPrice and stockStatus are filled in by the service
+     */
+    public CartItemDto(Integer cartId, Integer customerId, Integer productId, Integer quantity,
+            LocalDateTime createdAt, LocalDateTime updatedAt, String productName, String productImageUrl,
+            BigDecimal price, String unit, String category, Integer sellerId, String sellerName, String shopName,
+            Integer stock) {
+        this.cartId = cartId;
+        this.customerId = customerId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.productName = productName;
+        this.productImageUrl = productImageUrl;
+        this.price = price;
+        this.unit = unit;
+        this.category = category;
+        this.sellerId = sellerId;
+        this.sellerName = sellerName;
+        this.shopName = shopName;
+        this.stock = stock;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.sunbeam.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Body of PUT /api/cart/{cartId}/quantity - zero or less removes the line
+ */
+public record CartQuantityRequest(@NotNull(message = "Quantity is required") Integer quantity) {
+}
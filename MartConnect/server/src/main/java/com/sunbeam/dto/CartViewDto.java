@@ -0,0 +1,28 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * A customer's cart priced at current product prices
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartViewDto {
+	private Integer customerId;
+	private List<CartItemDto> items;
+	private Integer itemCount;
+	private Integer totalQuantity;
+	private BigDecimal cartTotal;
+	// one message per line whose quantity cannot be fulfilled right now, empty when the cart can be checked out
+	private List<String> stockWarnings;
+}
@@ -20,4 +20,7 @@ public class CategoryDto {
     private String description;
     
     private LocalDateTime createdAt;
+    
+    // product count and price range, read from category_stats
+    private CategoryStatsDto stats;
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryStatsDto {
+	private Integer productCount;
+	private Integer inStockCount;
+	// prices are null while the category has no products
+	private BigDecimal minPrice;
+	private BigDecimal maxPrice;
+	private BigDecimal avgPrice;
+
+	public static CategoryStatsDto empty() {
+		return new CategoryStatsDto(0, 0, null, null, null);
+	}
+}
@@ -0,0 +1,25 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Result of a cart checkout - one order per seller in the cart
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutDto {
+	private Integer customerId;
+	private List<OrderSummaryDto> orders;
+	private Integer itemCount;
+	private BigDecimal grandTotal;
+}
@@ -0,0 +1,13 @@
+package com.sunbeam.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Body of POST /api/cart/checkout
+ */
+public record CheckoutRequest(
+        @JsonAlias("customer_id") @NotNull(message = "Customer ID is required") Integer customerId,
+        @JsonAlias("transaction_id") String transactionId) {
+}
@@ -0,0 +1,23 @@
+package com.sunbeam.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Body of POST /api/categories - name is trimmed, a blank description is dropped
+ */
+public record CreateCategoryRequest(
+        @NotBlank(message = "Category name is required") String name,
+        String description) {
+
+    public CreateCategoryRequest {
+        name = name == null ? null : name.trim();
+        description = description == null || description.isBlank() ? null : description.trim();
+    }
+
+    public CategoryDto toDto() {
+        CategoryDto categoryDto = new CategoryDto();
+        categoryDto.setName(name);
+        categoryDto.setDescription(description);
+        return categoryDto;
+    }
+}
@@ -0,0 +1,78 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.sunbeam.entities.Order.PaymentStatus;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Body of POST /api/orders - customer, seller and products arrive as nested {id} objects
+ * (camelCase or snake_case keys), an unknown or missing payment status falls back to PAID
+ */
+public record CreateOrderRequest(
+        @Valid @NotNull(message = "Customer is required") CustomerRef customer,
+        @Valid @NotNull(message = "Seller is required") SellerRef seller,
+        @JsonAlias("total_amount") @NotNull(message = "Total amount is required")
+        @DecimalMin(value = "0.01", message = "Total amount must be greater than 0") BigDecimal totalAmount,
+        @JsonAlias("payment_status") String paymentStatus,
+        @JsonAlias("transaction_id") String transactionId,
+        @JsonAlias("order_items") @NotEmpty(message = "Order items are required") List<@Valid @NotNull Item> orderItems) {
+
+    public record CustomerRef(@JsonAlias("customer_id") @NotNull(message = "Customer ID is required") Integer customerId) {
+    }
+
+    public record SellerRef(@JsonAlias("seller_id") @NotNull(message = "Seller ID is required") Integer sellerId) {
+    }
+
+    public record ProductRef(@JsonAlias("product_id") @NotNull(message = "Product ID is required") Integer productId) {
+    }
+
+    public record Item(
+            @Valid @NotNull(message = "Product is required") ProductRef product,
+            @NotNull(message = "Quantity is required")
+            @Min(value = 1, message = "Quantity must be at least 1") Integer quantity,
+            @JsonAlias("price_per_unit") @NotNull(message = "Price per unit is required")
+            @DecimalMin(value = "0.01", message = "Price per unit must be greater than 0") BigDecimal pricePerUnit) {
+    }
+
+    public OrderDto toDto() {
+        LocalDateTime now = LocalDateTime.now();
+        OrderDto orderDto = new OrderDto();
+        orderDto.setCustomerId(customer.customerId());
+        orderDto.setSellerId(seller.sellerId());
+        orderDto.setTotalAmount(totalAmount);
+        orderDto.setDeliveryCharge(BigDecimal.ZERO);
+        orderDto.setTransactionId(transactionId);
+        orderDto.setPaymentStatus(resolvePaymentStatus());
+        orderDto.setCreatedAt(now);
+        orderDto.setUpdatedAt(now);
+        orderDto.setOrderItems(orderItems.stream().map(item -> {
+            OrderItemDto itemDto = new OrderItemDto();
+            itemDto.setProductId(item.product().productId());
+            itemDto.setQuantity(item.quantity());
+            itemDto.setPricePerUnit(item.pricePerUnit());
+            itemDto.setCreatedAt(now);
+            return itemDto;
+        }).toList());
+        return orderDto;
+    }
+
+    private PaymentStatus resolvePaymentStatus() {
+        if (paymentStatus != null) {
+            try {
+                return PaymentStatus.valueOf(paymentStatus);
+            } catch (IllegalArgumentException e) {
+                // fall through to the default
+            }
+        }
+        return PaymentStatus.PAID;
+    }
+}
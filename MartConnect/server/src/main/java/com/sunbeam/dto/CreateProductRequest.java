@@ -0,0 +1,56 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Body of POST /api/products - category and seller may be sent as {id} objects or as plain ids
+ */
+public record CreateProductRequest(
+        @NotBlank(message = "Product name is required") String name,
+        String description,
+        @NotNull(message = "Price is required")
+        @DecimalMin(value = "0.01", message = "Price must be greater than 0") BigDecimal price,
+        @NotBlank(message = "Unit is required") String unit,
+        @NotNull(message = "Stock is required")
+        @Min(value = 0, message = "Stock cannot be negative") Integer stock,
+        @JsonAlias("image_url") String imageUrl,
+        CategoryRef category,
+        SellerRef seller) {
+
+    public record CategoryRef(@JsonAlias("category_id") Integer categoryId) {
+
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public static CategoryRef of(int categoryId) {
+            return new CategoryRef(categoryId);
+        }
+    }
+
+    public record SellerRef(@JsonAlias("seller_id") Integer sellerId) {
+
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        public static SellerRef of(int sellerId) {
+            return new SellerRef(sellerId);
+        }
+    }
+
+    public ProductDto toDto() {
+        ProductDto productDto = new ProductDto();
+        productDto.setName(name);
+        productDto.setDescription(description);
+        productDto.setPrice(price);
+        productDto.setUnit(unit);
+        productDto.setStock(stock);
+        productDto.setImageUrl(imageUrl);
+        productDto.setCategoryId(category == null ? null : category.categoryId());
+        productDto.setSellerId(seller == null ? null : seller.sellerId());
+        return productDto;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One order item together with its order's seller, date and total - the input of the seller sales rollups.
+ * An order without items is a single line with null product, quantity and price.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class OrderSalesLine {
+	private final Integer orderId;
+	private final Integer sellerId;
+	private final LocalDateTime orderDate;
+	private final BigDecimal orderTotal;
+	private final Integer productId;
+	private final Integer quantity;
+	private final BigDecimal pricePerUnit;
+}
@@ -0,0 +1,25 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+
+import com.sunbeam.entities.Order.PaymentStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Number of a seller's orders in one payment status and their summed total - the dashboard tiles
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusTotalDto {
+	private PaymentStatus paymentStatus;
+	private Long orderCount;
+	private BigDecimal totalAmount;
+}
@@ -0,0 +1,35 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.sunbeam.entities.Order.PaymentStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Flat order list row selected straight from the database - full details come from GET /api/orders/{id}
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDto {
+	private Integer orderId;
+	private LocalDateTime orderDate;
+	private PaymentStatus paymentStatus;
+	private BigDecimal totalAmount;
+	private BigDecimal deliveryCharge;
+	private String transactionId;
+	private Integer customerId;
+	private String customerName;
+	private String customerAddress;
+	private Integer sellerId;
+	private String shopName;
+	private Long itemCount;
+}
@@ -0,0 +1,22 @@
+package com.sunbeam.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * One keyset page of products plus the opaque cursor for the next page (null on the last page)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSliceDto {
+	private List<ProductDto> content;
+	private String nextCursor;
+}
@@ -0,0 +1,32 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Seller dashboard figures for the days from..to (inclusive), read from the sales rollups
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerAnalyticsDto {
+	private Integer sellerId;
+	private LocalDate from;
+	private LocalDate to;
+	private String granularity;
+	private Integer orderCount;
+	private BigDecimal revenue;
+	private Integer unitsSold;
+	// only hours / days with orders, oldest first
+	private List<SellerSalesBucketDto> buckets;
+	private List<SellerTopProductDto> topProducts;
+}
@@ -0,0 +1,22 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerSalesBucketDto {
+	private LocalDateTime bucketStart;
+	private Integer orderCount;
+	private BigDecimal revenue;
+	private Integer unitsSold;
+}
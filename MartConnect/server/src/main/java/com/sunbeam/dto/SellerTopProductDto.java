@@ -0,0 +1,21 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerTopProductDto {
+	private Integer productId;
+	private String productName; // null once the product is deleted
+	private Long unitsSold;
+	private BigDecimal revenue;
+}
@@ -0,0 +1,51 @@
+package com.sunbeam.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Product aggregates of one category, maintained incrementally as products change.
+ * Rows are only written through CategoryStatsUpdateDao's set-based statements.
+ */
+@Entity
+@Table(name = "category_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CategoryStats {
+    
+    @Id
+    @Column(name = "category_id")
+    private Integer categoryId;
+    
+    @Column(name = "product_count", nullable = false)
+    private Integer productCount;
+    
+    @Column(name = "in_stock_count", nullable = false)
+    private Integer inStockCount;
+    
+    // kept instead of the average so add / remove stay simple deltas
+    @Column(name = "price_sum", nullable = false, precision = 14, scale = 2)
+    private BigDecimal priceSum;
+    
+    @Column(name = "min_price", precision = 10, scale = 2)
+    private BigDecimal minPrice;
+    
+    @Column(name = "max_price", precision = 10, scale = 2)
+    private BigDecimal maxPrice;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -15,9 +15,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
@@ -27,25 +32,47 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // keyset order feeds: WHERE seller/customer = ? ORDER BY order_date DESC, order_id DESC
+        @Index(name = "idx_orders_seller_date", columnList = "seller_id, order_date, order_id"),
+        @Index(name = "idx_orders_customer_date", columnList = "customer_id, order_date, order_id") })
+// OrderDto: customer, seller, items and each item's product (with category, for the nested ProductDto)
+@NamedEntityGraph(name = Order.DETAIL_GRAPH,
+        attributeNodes = { @NamedAttributeNode("customer"), @NamedAttributeNode("seller"),
+                @NamedAttributeNode(value = "orderItems", subgraph = "items") },
+        subgraphs = {
+                @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode(value = "product", subgraph = "product")),
+                @NamedSubgraph(name = "product", attributeNodes = @NamedAttributeNode("category")) })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"customer", "seller", "orderItems"})
 public class Order {
     
+    /**
+     * Ids handed out per sequence round trip - keep equal to hibernate.jdbc.batch_size
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
+    /**
+     * Fetch plan for everything mapped to OrderDto - order detail, order history, seller order list
+     */
+    public static final String DETAIL_GRAPH = "Order.detail";
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence (a table on MySQL) so inserts can be JDBC batched - IDENTITY disables batching
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "order_id")
     private Integer orderId;
     
     @NotNull(message = "Customer is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
     
     @NotNull(message = "Seller is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id", nullable = false)
     private Seller seller;
     
@@ -74,7 +101,7 @@ public class Order {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    @OneToMany(mappedBy = "order", fetch = FetchType.EAGER, cascade = jakarta.persistence.CascadeType.ALL)
+    @OneToMany(mappedBy = "order", fetch = FetchType.LAZY, cascade = jakarta.persistence.CascadeType.ALL)
     private List<OrderItem> orderItems = new ArrayList<>();
     
     /**
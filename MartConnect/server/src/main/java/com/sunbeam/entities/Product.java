@@ -13,8 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
@@ -28,7 +31,11 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // seller dashboard low-stock / out-of-stock lists
+        @Index(name = "idx_products_seller_stock", columnList = "seller_id, stock") })
+// ProductDto needs the category name; the seller id comes from the lazy proxy without a select
+@NamedEntityGraph(name = Product.WITH_CATEGORY_GRAPH, attributeNodes = @NamedAttributeNode("category"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,6 +43,11 @@ import lombok.ToString;
 @ToString(exclude = {"category", "seller", "orderItems", "cartItems", "productImages"})
 public class Product {
     
+    /**
+     * Fetch plan for everything mapped to ProductDto - catalog list, product detail, seller dashboard
+     */
+    public static final String WITH_CATEGORY_GRAPH = "Product.withCategory";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "product_id")
@@ -66,7 +78,7 @@ public class Product {
     private String imageUrl;
     
     @NotNull(message = "Category is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     @JsonIgnore
     private Category category;
@@ -83,7 +95,7 @@ public class Product {
     }
     
     @NotNull(message = "Seller is required")
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id", nullable = false)
     @JsonIgnore
     private Seller seller;
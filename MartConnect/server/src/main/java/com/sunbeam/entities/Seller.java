@@ -4,7 +4,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sunbeam.cache.SecondLevelCacheConfiguration;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -22,6 +26,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfiguration.SELLER_REGION)
 @Table(name = "sellers")
 @Data
 @NoArgsConstructor
@@ -0,0 +1,63 @@
+package com.sunbeam.entities;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Units sold and revenue of one product of one seller on one day - the source of top product lists
+ */
+@Entity
+@Table(name = "seller_product_sales_rollups")
+@IdClass(SellerProductSalesRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SellerProductSalesRollup {
+    
+    @Id
+    @Column(name = "seller_id")
+    private Integer sellerId;
+    
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+    
+    @Id
+    @Column(name = "product_id")
+    private Integer productId;
+    
+    @Column(name = "units_sold", nullable = false)
+    private Integer unitsSold;
+    
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private Integer sellerId;
+        private LocalDate salesDate;
+        private Integer productId;
+    }
+}
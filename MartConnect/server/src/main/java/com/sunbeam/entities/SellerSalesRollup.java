@@ -0,0 +1,81 @@
+package com.sunbeam.entities;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Order count, revenue and units sold of one seller in one hour or one day.
+ * Rows are only written through SellerSalesRollupUpdateDao's additive upserts.
+ */
+@Entity
+@Table(name = "seller_sales_rollups")
+@IdClass(SellerSalesRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SellerSalesRollup {
+    
+    @Id
+    @Column(name = "seller_id")
+    private Integer sellerId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 4)
+    private Granularity granularity;
+    
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;
+    
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+    
+    @Column(name = "units_sold", nullable = false)
+    private Integer unitsSold;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public enum Granularity {
+        HOUR, DAY;
+        
+        /**
+         * Start of the bucket the given time falls into
+         */
+        public LocalDateTime bucketOf(LocalDateTime time) {
+            return this == HOUR ? time.truncatedTo(ChronoUnit.HOURS) : time.toLocalDate().atStartOfDay();
+        }
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private Integer sellerId;
+        private Granularity granularity;
+        private LocalDateTime bucketStart;
+    }
+}
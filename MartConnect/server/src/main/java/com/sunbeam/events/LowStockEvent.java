@@ -0,0 +1,26 @@
+package com.sunbeam.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A product's stock just fell to or below the low-stock threshold, or to zero.
+ * Published once per crossing (not on every sale below it) and pushed to the seller after commit.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class LowStockEvent {
+    
+    public enum Level {
+        LOW, OUT_OF_STOCK
+    }
+    
+    private final Integer productId;
+    private final Integer sellerId;
+    private final String productName;
+    private final Integer stock;
+    private final Integer threshold;
+    private final Level level;
+}
@@ -0,0 +1,38 @@
+package com.sunbeam.events;
+
+import com.sunbeam.entities.Product;
+import com.sunbeam.search.ProductIndexDocument;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the service layer whenever a product row is created, changed or removed.
+ * Listeners react after the surrounding transaction commits.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductChangedEvent {
+    private final Integer productId;
+    private final boolean deleted;
+    // snapshot taken inside the transaction, null for deletes and non-searchable changes
+    private final ProductIndexDocument document;
+
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(product.getProductId(), false, ProductIndexDocument.of(product));
+    }
+
+    /**
+     * Stock or price changed - searchable text is untouched
+     */
+    public static ProductChangedEvent attributesChanged(Integer productId) {
+        return new ProductChangedEvent(productId, false, null);
+    }
+
+    public static ProductChangedEvent deleted(Integer productId) {
+        return new ProductChangedEvent(productId, true, null);
+    }
+}
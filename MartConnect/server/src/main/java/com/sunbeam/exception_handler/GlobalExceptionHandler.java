@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -65,11 +66,19 @@ public class GlobalExceptionHandler {
 //			fieldErrors.forEach(fieldErr -> 
 //			errorMap.put(fieldErr.getField(), e.getMessage()));
 		Map<String, String> errorMap = e.getFieldErrors().stream()
-				.collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage));
+				.collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage, (first, second) -> first));
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST)// SC 400
 				.body(errorMap);
 	}
 
+	// request body that is not valid JSON or does not fit the request type (e.g. text for a number)
+	@ExceptionHandler(HttpMessageNotReadableException.class)
+	public ResponseEntity<?> handleHttpMessageNotReadableException(HttpMessageNotReadableException e) {
+		System.out.println("in catch - HttpMessageNotReadableException");
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST)// SC 400
+				.body(new ApiResponse("Malformed request body"));
+	}
+
 	// add exception handling method - to handle ConstraintViolationExce
 	@ExceptionHandler(ConstraintViolationException.class)
 	public ResponseEntity<?> handleConstraintViolationException(ConstraintViolationException e) {
@@ -0,0 +1,18 @@
+package com.sunbeam.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.sunbeam.dto.AreaDto;
+import com.sunbeam.entities.Area;
+
+@Mapper(config = MappingConfig.class)
+public interface AreaMapper {
+
+	// reads only the id of the lazy customer proxy - no extra select
+	@Mapping(target = "customerId", source = "customer.customerId")
+	AreaDto toDto(Area area);
+
+	@Mapping(target = "customer", ignore = true)
+	Area toEntity(AreaDto areaDto);
+}
@@ -0,0 +1,20 @@
+package com.sunbeam.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.sunbeam.dto.CartDto;
+import com.sunbeam.entities.Cart;
+
+@Mapper(config = MappingConfig.class)
+public interface CartMapper {
+
+	// reads only the ids of the lazy customer / product proxies - no extra selects
+	@Mapping(target = "customerId", source = "customer.customerId")
+	@Mapping(target = "productId", source = "product.productId")
+	CartDto toDto(Cart cart);
+
+	@Mapping(target = "customer", ignore = true)
+	@Mapping(target = "product", ignore = true)
+	Cart toEntity(CartDto cartDto);
+}
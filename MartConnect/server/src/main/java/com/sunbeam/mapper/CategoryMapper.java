@@ -0,0 +1,35 @@
+package com.sunbeam.mapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import com.sunbeam.dto.CategoryDto;
+import com.sunbeam.dto.CategoryStatsDto;
+import com.sunbeam.entities.Category;
+import com.sunbeam.entities.CategoryStats;
+
+@Mapper(config = MappingConfig.class)
+public interface CategoryMapper {
+
+	// stats come from category_stats, attached by the service
+	@Mapping(target = "stats", ignore = true)
+	CategoryDto toDto(Category category);
+
+	@Mapping(target = "products", ignore = true)
+	Category toEntity(CategoryDto categoryDto);
+
+	@Mapping(target = "avgPrice", source = "stats", qualifiedByName = "averagePrice")
+	CategoryStatsDto toStatsDto(CategoryStats stats);
+
+	@Named("averagePrice")
+	default BigDecimal averagePrice(CategoryStats stats) {
+		if (stats.getProductCount() == null || stats.getProductCount() == 0 || stats.getPriceSum() == null) {
+			return null;
+		}
+		return stats.getPriceSum().divide(BigDecimal.valueOf(stats.getProductCount()), 2, RoundingMode.HALF_UP);
+	}
+}
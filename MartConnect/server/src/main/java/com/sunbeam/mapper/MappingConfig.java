@@ -0,0 +1,18 @@
+package com.sunbeam.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared settings for all generated mappers.
+ * Nulls in the source are never copied, so target defaults (e.g. delivery charge,
+ * payment status) survive - the same contract the old ModelMapper setup had.
+ * Every target property must be mapped or explicitly ignored, otherwise the build fails.
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+		nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS,
+		unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MappingConfig {
+}
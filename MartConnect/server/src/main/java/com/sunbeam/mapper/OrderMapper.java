@@ -0,0 +1,65 @@
+package com.sunbeam.mapper;
+
+import java.math.BigDecimal;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import com.sunbeam.dto.OrderDto;
+import com.sunbeam.dto.OrderItemDto;
+import com.sunbeam.entities.Customer;
+import com.sunbeam.entities.Order;
+import com.sunbeam.entities.OrderItem;
+import com.sunbeam.entities.Seller;
+
+/**
+ * Order and OrderItem mappings, including the display fields
+ * (names, shop, product info, line totals) the frontend expects
+ */
+@Mapper(config = MappingConfig.class, uses = { ProductMapper.class, UserMapper.class })
+public interface OrderMapper {
+
+	@Mapping(target = "customerId", source = "customer.customerId")
+	@Mapping(target = "sellerId", source = "seller.sellerId")
+	@Mapping(target = "customerName", source = "customer", qualifiedByName = "customerName")
+	@Mapping(target = "sellerName", source = "seller", qualifiedByName = "sellerName")
+	@Mapping(target = "shopName", source = "seller.shopName")
+	OrderDto toDto(Order order);
+
+	@Mapping(target = "orderId", source = "order.orderId")
+	@Mapping(target = "productId", source = "product.productId")
+	@Mapping(target = "productName", source = "product.name")
+	@Mapping(target = "productImageUrl", source = "product.imageUrl")
+	@Mapping(target = "totalPrice", source = "item", qualifiedByName = "lineTotal")
+	OrderItemDto toDto(OrderItem item);
+
+	/*
+	 * customer, seller and products are resolved by id in the service layer
+	 */
+	@Mapping(target = "customer", ignore = true)
+	@Mapping(target = "seller", ignore = true)
+	Order toEntity(OrderDto orderDto);
+
+	@Mapping(target = "order", ignore = true)
+	@Mapping(target = "product", ignore = true)
+	OrderItem toEntity(OrderItemDto orderItemDto);
+
+	@Named("customerName")
+	default String customerName(Customer customer) {
+		return customer.getFirstName() + " " + customer.getLastName();
+	}
+
+	@Named("sellerName")
+	default String sellerName(Seller seller) {
+		return seller.getFirstName() + " " + seller.getLastName();
+	}
+
+	@Named("lineTotal")
+	default BigDecimal lineTotal(OrderItem item) {
+		if (item.getPricePerUnit() == null || item.getQuantity() == null) {
+			return null;
+		}
+		return item.getPricePerUnit().multiply(BigDecimal.valueOf(item.getQuantity()));
+	}
+}
@@ -0,0 +1,26 @@
+package com.sunbeam.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.sunbeam.dto.ProductDto;
+import com.sunbeam.entities.Product;
+
+@Mapper(config = MappingConfig.class)
+public interface ProductMapper {
+
+	@Mapping(target = "category", source = "categoryName")
+	ProductDto toDto(Product product);
+
+	/*
+	 * category and seller are resolved by id in the service layer
+	 */
+	@Mapping(target = "category", ignore = true)
+	@Mapping(target = "seller", ignore = true)
+	@Mapping(target = "orderItems", ignore = true)
+	@Mapping(target = "cartItems", ignore = true)
+	@Mapping(target = "productImages", ignore = true)
+	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true)
+	Product toEntity(ProductDto productDto);
+}
@@ -0,0 +1,33 @@
+package com.sunbeam.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.sunbeam.dto.CustomerDto;
+import com.sunbeam.dto.SellerDto;
+import com.sunbeam.entities.Customer;
+import com.sunbeam.entities.Seller;
+
+/**
+ * Customer and Seller mappings
+ */
+@Mapper(config = MappingConfig.class)
+public interface UserMapper {
+
+	CustomerDto toDto(Customer customer);
+
+	@Mapping(target = "areas", ignore = true)
+	@Mapping(target = "cartItems", ignore = true)
+	@Mapping(target = "orders", ignore = true)
+	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true)
+	Customer toEntity(CustomerDto customerDto);
+
+	SellerDto toDto(Seller seller);
+
+	@Mapping(target = "products", ignore = true)
+	@Mapping(target = "orders", ignore = true)
+	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true)
+	Seller toEntity(SellerDto sellerDto);
+}
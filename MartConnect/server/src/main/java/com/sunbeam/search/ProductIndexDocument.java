@@ -0,0 +1,27 @@
+package com.sunbeam.search;
+
+import com.sunbeam.entities.Product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Flat, immutable view of the Product fields that feed the search index.
+ * Also used as a JPQL constructor-expression target so a rebuild never hydrates entities.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ProductIndexDocument {
+    private final Integer productId;
+    private final String name;
+    private final String description;
+    private final String categoryName;
+    private final String shopName;
+
+    public static ProductIndexDocument of(Product product) {
+        return new ProductIndexDocument(product.getProductId(), product.getName(), product.getDescription(),
+                product.getCategoryName(), product.getSellerName());
+    }
+}
@@ -0,0 +1,50 @@
+package com.sunbeam.search;
+
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunbeam.dao.ProductDao;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Populates the product search index from a streamed scan once the application is up
+ */
+@Component
+@Slf4j
+public class ProductIndexLoader {
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Autowired
+    private ProductSearchIndex searchIndex;
+
+    @Value("${search.index.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    // streaming needs an open transaction; callers go through the proxy or are already inside one
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try (Stream<ProductIndexDocument> documents = productDao.streamAllForSearchIndex()) {
+            searchIndex.rebuild(documents);
+        }
+        log.info("Product search index rebuilt: {} products, {} terms in {} ms",
+                searchIndex.size(), searchIndex.termCount(), System.currentTimeMillis() - start);
+    }
+}
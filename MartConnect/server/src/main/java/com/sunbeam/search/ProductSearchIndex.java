@@ -0,0 +1,588 @@
+package com.sunbeam.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sunbeam.events.ProductChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index over product name, description, category and shop name.
+ *
+ * Every indexed product gets an internal document number that only ever grows, so
+ * posting lists are appended in sorted order and stay primitive int arrays.
+ * Updates re-index the product under a new document number and tombstone the old one;
+ * tombstones are compacted away once they make up a quarter of the index.
+ *
+ * Query terms are ANDed together. The last term is matched as a prefix (search-as-you-type),
+ * earlier terms must match a whole token. Results are ranked by summed field weights.
+ * A prefix expands to every dictionary term it covers; the merged postings of large expansions
+ * are kept and appended to as products are indexed, so a popular prefix is only merged once.
+ */
+@Component
+@Slf4j
+public class ProductSearchIndex {
+
+    static final int NAME_WEIGHT = 4;
+    static final int CATEGORY_WEIGHT = 2;
+    static final int SHOP_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    static final int MIN_TOKEN_LENGTH = 2;
+    // smaller prefix merges are cheap enough to redo on every query
+    static final int PREFIX_POSTINGS_MIN_SIZE = 2048;
+    // memory bound for kept prefix postings, in (doc, score) pairs - about 8 bytes each
+    static final long PREFIX_POSTINGS_MAX_TOTAL = 4_000_000;
+
+    private static final int COMPACTION_MIN_DOCS = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment segment = new Segment();
+
+    // changes that arrive while a rebuild is streaming, replayed onto the new segment
+    private List<ProductChangedEvent> pendingDuringRebuild;
+
+    /**
+     * Ranked product ids matching every term of the query, best match first
+     */
+    public List<Integer> search(String query, int limit) {
+        List<String> terms = tokenizeQuery(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace a single product
+     */
+    public void index(ProductIndexDocument document) {
+        lock.writeLock().lock();
+        try {
+            segment.put(document);
+            segment.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a single product
+     */
+    public void remove(Integer productId) {
+        lock.writeLock().lock();
+        try {
+            segment.remove(productId);
+            segment.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keep the index in step with committed product changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(segment, event);
+            segment.compactIfNeeded();
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Build a fresh index from the given documents and swap it in.
+     * Searches keep hitting the old index until the new one is complete; if the stream
+     * fails part way the partial index is dropped and the old one stays in place.
+     */
+    public void rebuild(Stream<ProductIndexDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        try {
+            documents.forEach(fresh::put);
+        } catch (RuntimeException | Error e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (ProductChangedEvent event : pendingDuringRebuild) {
+                apply(fresh, event);
+            }
+            pendingDuringRebuild = null;
+            fresh.compactIfNeeded();
+            segment = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of live products in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct terms in the dictionary
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return segment.terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Segment target, ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            target.remove(event.getProductId());
+        } else if (event.getDocument() != null) {
+            target.put(event.getDocument());
+        }
+    }
+
+    // Query tokens keep their order (last one is the prefix) but drop duplicates
+    static List<String> tokenizeQuery(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        tokenize(query, token -> tokens.add(token));
+        return new ArrayList<>(tokens);
+    }
+
+    static void tokenize(String text, java.util.function.Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean tokenChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    sink.accept(text.substring(start, i).toLowerCase());
+                }
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Growable (doc, score) pairs kept in ascending doc order
+     */
+    static final class PostingList {
+        int[] docs;
+        int[] scores;
+        int size;
+
+        PostingList() {
+            this(4);
+        }
+
+        PostingList(int capacity) {
+            docs = new int[Math.max(capacity, 4)];
+            scores = new int[docs.length];
+        }
+
+        void add(int doc, int score) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            docs[size] = doc;
+            scores[size] = score;
+            size++;
+        }
+    }
+
+    /**
+     * Not thread safe; guarded by the outer read/write lock
+     */
+    static final class Segment {
+        final TreeMap<String, PostingList> terms = new TreeMap<>();
+        final Map<Integer, Integer> productToDoc = new HashMap<>();
+        int[] docToProduct = new int[1024];
+        final BitSet deletedDocs = new BitSet();
+        int docCount;
+        int liveCount;
+        // merged postings per expanded prefix; filled by searches under the read lock, appended to by put()
+        final Map<String, PostingList> prefixPostings = new ConcurrentHashMap<>();
+        final AtomicLong prefixPostingsTotal = new AtomicLong();
+
+        void put(ProductIndexDocument document) {
+            if (document == null || document.getProductId() == null) {
+                return;
+            }
+            remove(document.getProductId());
+
+            Map<String, Integer> weights = new HashMap<>();
+            addField(weights, document.getName(), NAME_WEIGHT);
+            addField(weights, document.getCategoryName(), CATEGORY_WEIGHT);
+            addField(weights, document.getShopName(), SHOP_WEIGHT);
+            addField(weights, document.getDescription(), DESCRIPTION_WEIGHT);
+
+            int doc = docCount++;
+            if (doc == docToProduct.length) {
+                docToProduct = Arrays.copyOf(docToProduct, doc * 2);
+            }
+            docToProduct[doc] = document.getProductId();
+            productToDoc.put(document.getProductId(), doc);
+            liveCount++;
+
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                terms.computeIfAbsent(entry.getKey(), key -> new PostingList()).add(doc, entry.getValue());
+            }
+            if (!prefixPostings.isEmpty()) {
+                appendToPrefixPostings(doc, weights);
+            }
+        }
+
+        // doc numbers only grow, so appending keeps every kept prefix list in doc order
+        private void appendToPrefixPostings(int doc, Map<String, Integer> weights) {
+            Map<String, Integer> best = new HashMap<>();
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                String token = entry.getKey();
+                for (int length = MIN_TOKEN_LENGTH; length <= token.length(); length++) {
+                    String prefix = token.substring(0, length);
+                    if (prefixPostings.containsKey(prefix)) {
+                        best.merge(prefix, entry.getValue(), Math::max);
+                    }
+                }
+            }
+            best.forEach((prefix, score) -> prefixPostings.get(prefix).add(doc, score));
+            prefixPostingsTotal.addAndGet(best.size());
+        }
+
+        void remove(Integer productId) {
+            Integer doc = productToDoc.remove(productId);
+            if (doc != null) {
+                deletedDocs.set(doc);
+                liveCount--;
+            }
+        }
+
+        private static void addField(Map<String, Integer> weights, String text, int weight) {
+            tokenize(text, token -> weights.merge(token, weight, Integer::sum));
+        }
+
+        // Drop tombstoned documents and renumber the survivors densely
+        void compactIfNeeded() {
+            int deleted = docCount - liveCount;
+            if (docCount < COMPACTION_MIN_DOCS || deleted * 4 < docCount) {
+                return;
+            }
+            int[] remap = new int[docCount];
+            int[] compactedProducts = new int[Math.max(liveCount, 1024)];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deletedDocs.get(doc)) {
+                    remap[doc] = -1;
+                } else {
+                    remap[doc] = next;
+                    compactedProducts[next] = docToProduct[doc];
+                    productToDoc.put(docToProduct[doc], next);
+                    next++;
+                }
+            }
+            terms.values().removeIf(postings -> remap(postings, remap) == 0);
+            prefixPostings.values().removeIf(postings -> remap(postings, remap) == 0);
+            prefixPostingsTotal.set(prefixPostings.values().stream().mapToLong(postings -> postings.size).sum());
+            log.info("Compacted product search index: {} tombstones removed, {} live documents", deleted, next);
+            docToProduct = compactedProducts;
+            docCount = next;
+            deletedDocs.clear();
+        }
+
+        private static int remap(PostingList postings, int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < postings.size; i++) {
+                int mapped = remap[postings.docs[i]];
+                if (mapped >= 0) {
+                    postings.docs[kept] = mapped;
+                    postings.scores[kept] = postings.scores[i];
+                    kept++;
+                }
+            }
+            postings.size = kept;
+            return kept;
+        }
+
+        List<Integer> search(List<String> queryTerms, int limit) {
+            List<Hits> perTerm = new ArrayList<>(queryTerms.size());
+            for (int i = 0; i < queryTerms.size(); i++) {
+                boolean last = i == queryTerms.size() - 1;
+                Hits hits = last ? prefix(queryTerms.get(i)) : exact(queryTerms.get(i));
+                if (hits.size == 0) {
+                    return List.of();
+                }
+                perTerm.add(hits);
+            }
+            // intersect starting from the rarest term so intermediate results stay small
+            perTerm.sort((a, b) -> Integer.compare(a.size, b.size));
+            Hits result = perTerm.get(0);
+            for (int i = 1; i < perTerm.size() && result.size > 0; i++) {
+                result = intersect(result, perTerm.get(i));
+            }
+            return topK(result, limit);
+        }
+
+        private Hits exact(String term) {
+            PostingList postings = terms.get(term);
+            return postings == null ? Hits.EMPTY : new Hits(postings.docs, postings.scores, postings.size);
+        }
+
+        private Hits prefix(String prefix) {
+            SortedMap<String, PostingList> range = terms.subMap(prefix, prefix + Character.MAX_VALUE);
+            if (range.isEmpty()) {
+                return Hits.EMPTY;
+            }
+            PostingList postings = range.size() == 1 ? range.values().iterator().next() : prefixPostings.get(prefix);
+            if (postings == null) {
+                postings = merge(range.values());
+                keepPrefixPostings(prefix, postings);
+            }
+            return new Hits(postings.docs, postings.scores, postings.size);
+        }
+
+        private void keepPrefixPostings(String prefix, PostingList merged) {
+            if (merged.size < PREFIX_POSTINGS_MIN_SIZE
+                    || prefixPostingsTotal.get() + merged.size > PREFIX_POSTINGS_MAX_TOTAL) {
+                return;
+            }
+            // two searches may merge the same prefix at once; only the first one is kept
+            if (prefixPostings.putIfAbsent(prefix, merged) == null) {
+                prefixPostingsTotal.addAndGet(merged.size);
+            }
+        }
+
+        // k-way merge of doc ordered lists; a doc matching several expansions keeps its best score
+        static PostingList merge(Collection<PostingList> lists) {
+            PostingList[] sources = lists.toArray(new PostingList[0]);
+            int[] cursors = new int[sources.length];
+            // min-heap of source indexes, ordered by the doc under each source's cursor
+            int[] heap = new int[sources.length];
+            int heapSize = 0;
+            int total = 0;
+            for (int i = 0; i < sources.length; i++) {
+                if (sources[i].size > 0) {
+                    heap[heapSize++] = i;
+                    total += sources[i].size;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i, sources, cursors);
+            }
+            PostingList merged = new PostingList(total);
+            while (heapSize > 0) {
+                int source = heap[0];
+                int doc = sources[source].docs[cursors[source]];
+                int score = sources[source].scores[cursors[source]];
+                if (merged.size > 0 && merged.docs[merged.size - 1] == doc) {
+                    merged.scores[merged.size - 1] = Math.max(merged.scores[merged.size - 1], score);
+                } else {
+                    merged.docs[merged.size] = doc;
+                    merged.scores[merged.size] = score;
+                    merged.size++;
+                }
+                if (++cursors[source] == sources[source].size) {
+                    heap[0] = heap[--heapSize];
+                }
+                if (heapSize > 0) {
+                    siftDown(heap, heapSize, 0, sources, cursors);
+                }
+            }
+            return merged;
+        }
+
+        private static void siftDown(int[] heap, int heapSize, int index, PostingList[] sources, int[] cursors) {
+            int moving = heap[index];
+            int movingDoc = sources[moving].docs[cursors[moving]];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                int childDoc = sources[heap[child]].docs[cursors[heap[child]]];
+                if (child + 1 < heapSize) {
+                    int rightDoc = sources[heap[child + 1]].docs[cursors[heap[child + 1]]];
+                    if (rightDoc < childDoc) {
+                        child++;
+                        childDoc = rightDoc;
+                    }
+                }
+                if (movingDoc <= childDoc) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = moving;
+        }
+
+        // Walk the smaller list and gallop through the larger one
+        private static Hits intersect(Hits small, Hits large) {
+            if (small.size > large.size) {
+                Hits swap = small;
+                small = large;
+                large = swap;
+            }
+            int[] docs = new int[small.size];
+            int[] scores = new int[small.size];
+            int size = 0;
+            int from = 0;
+            for (int i = 0; i < small.size && from < large.size; i++) {
+                int doc = small.docs[i];
+                int found = gallop(large.docs, from, large.size, doc);
+                if (found < large.size && large.docs[found] == doc) {
+                    docs[size] = doc;
+                    scores[size] = small.scores[i] + large.scores[found];
+                    size++;
+                    from = found + 1;
+                } else {
+                    from = found;
+                }
+            }
+            return new Hits(docs, scores, size);
+        }
+
+        // first index in [from, to) whose value is >= target
+        private static int gallop(int[] values, int from, int to, int target) {
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < to && values[high] < target) {
+                low = high + 1;
+                high = from + step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(values, low, Math.min(high + 1, to), target);
+            return found >= 0 ? found : -found - 1;
+        }
+
+        private List<Integer> topK(Hits hits, int limit) {
+            // primitive min-heap of the best keys so far; key = score in the high bits, older document wins ties
+            long[] heap = new long[Math.min(limit, hits.size)];
+            int heapSize = 0;
+            boolean anyDeleted = !deletedDocs.isEmpty();
+            for (int i = 0; i < hits.size; i++) {
+                int doc = hits.docs[i];
+                long key = ((long) hits.scores[i] << 32) | (Integer.MAX_VALUE - doc);
+                if (heapSize == heap.length && key <= heap[0]) {
+                    continue;
+                }
+                if (anyDeleted && deletedDocs.get(doc)) {
+                    continue;
+                }
+                if (heapSize < heap.length) {
+                    heap[heapSize] = key;
+                    siftUp(heap, heapSize++);
+                } else {
+                    heap[0] = key;
+                    siftDown(heap, heapSize, 0);
+                }
+            }
+            Integer[] ranked = new Integer[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                ranked[i] = docToProduct[Integer.MAX_VALUE - (int) (heap[0] & 0xFFFFFFFFL)];
+                heap[0] = heap[i];
+                siftDown(heap, i, 0);
+            }
+            return Arrays.asList(ranked);
+        }
+
+        private static void siftUp(long[] heap, int index) {
+            long moving = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= moving) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = moving;
+        }
+
+        private static void siftDown(long[] heap, int heapSize, int index) {
+            long moving = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (moving <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = moving;
+        }
+    }
+
+    private static final class Hits {
+        static final Hits EMPTY = new Hits(new int[0], new int[0], 0);
+
+        final int[] docs;
+        final int[] scores;
+        final int size;
+
+        Hits(int[] docs, int[] scores, int size) {
+            this.docs = docs;
+            this.scores = scores;
+            this.size = size;
+        }
+    }
+}
@@ -2,15 +2,10 @@ package com.sunbeam.security;
 
 import java.io.IOException;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,28 +19,25 @@ import org.springframework.security.core.Authentication;
 @Slf4j
 public class CustomJwtFilter extends OncePerRequestFilter {
 
-	private final JwtUtils jwtUtils;
-	private final UserDetailsService userDetailsService;
+	private final JwtAuthenticationCache jwtAuthenticationCache;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
 		final String authHeader = request.getHeader("Authorization");
 		final String jwt;
-		final String userEmail;
 		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
 			filterChain.doFilter(request, response);
 			return;
 		}
 		jwt = authHeader.substring(7);
 		try {
-			Claims claims = jwtUtils.validateJwtToken(jwt);
-			userEmail = jwtUtils.getUserNameFromJwtToken(claims);
-			if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+			// verified once per token lifetime, afterwards a single digest lookup
+			Authentication authToken = jwtAuthenticationCache.authenticate(jwt);
+			if (authToken.getName() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 				// Use the authorities from JWT token instead of reloading user details
-				Authentication authToken = jwtUtils.populateAuthenticationTokenFromJWT(jwt);
 				SecurityContextHolder.getContext().setAuthentication(authToken);
-				log.info("Set authentication for user: {}", userEmail);
+				log.debug("Set authentication for user: {}", authToken.getName());
 			}
 		} catch (Exception e) {
 			log.error("Cannot set user authentication: {}", e);
@@ -4,19 +4,25 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sunbeam.dao.CustomerDao;
 import com.sunbeam.dao.SellerDao;
+import com.sunbeam.dto.CustomerDto;
+import com.sunbeam.dto.SellerDto;
 import com.sunbeam.entities.Customer;
 import com.sunbeam.entities.Seller;
+import com.sunbeam.mapper.UserMapper;
 
 @Service
-public class CustomUserDetailsServiceImpl implements UserDetailsService {
+public class CustomUserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+
+	public static final String SELLER_ROLE = "Seller";
 
 	@Autowired
 	private CustomerDao customerDao;
@@ -24,31 +30,57 @@ public class CustomUserDetailsServiceImpl implements UserDetailsService {
 	@Autowired
 	private SellerDao sellerDao;
 
+	@Autowired
+	private UserMapper userMapper;
+
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-		System.out.println("Loading user details for email: " + email);
-		
-		// Try to find customer first
+		// Try to find customer first, then seller
 		var customerOpt = customerDao.findByEmail(email);
 		if (customerOpt.isPresent()) {
-			Customer customer = customerOpt.get();
-			System.out.println("Customer found: " + customer.getEmail() + ", password length: " + customer.getPassword().length());
-			System.out.println("Customer password starts with: " + customer.getPassword().substring(0, Math.min(10, customer.getPassword().length())));
-			return new User(customer.getEmail(), customer.getPassword(), 
-					List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+			return toPrincipal(customerOpt.get());
 		}
-		
-		// Try to find seller
-		var sellerOpt = sellerDao.findByEmail(email);
-		if (sellerOpt.isPresent()) {
-			Seller seller = sellerOpt.get();
-			System.out.println("Seller found: " + seller.getEmail() + ", password length: " + seller.getPassword().length());
-			System.out.println("Seller password starts with: " + seller.getPassword().substring(0, Math.min(10, seller.getPassword().length())));
-			return new User(seller.getEmail(), seller.getPassword(), 
-					List.of(new SimpleGrantedAuthority("ROLE_SELLER")));
+		return sellerDao.findByEmail(email)
+				.map(this::toPrincipal)
+				.orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+	}
+
+	/**
+	 * Look the user up only in the table of the role chosen at login ("Seller", anything else = customer)
+	 */
+	public UserPrincipal loadUserByUsernameAndRole(String email, String role) throws UsernameNotFoundException {
+		if (SELLER_ROLE.equals(role)) {
+			return sellerDao.findByEmail(email)
+					.map(this::toPrincipal)
+					.orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 		}
-		
-		System.out.println("No user found with email: " + email);
-		throw new UsernameNotFoundException("User not found with email: " + email);
+		return customerDao.findByEmail(email)
+				.map(this::toPrincipal)
+				.orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+	}
+
+	/**
+	 * Store a re-encoded hash for the user (called after a successful login with an outdated hash)
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		UserPrincipal principal = (UserPrincipal) user;
+		if (principal.getUserData() instanceof CustomerDto customer) {
+			customerDao.updatePassword(customer.getCustomerId(), newPassword);
+		} else if (principal.getUserData() instanceof SellerDto seller) {
+			sellerDao.updatePassword(seller.getSellerId(), newPassword);
+		}
+		return new UserPrincipal(principal.getUsername(), newPassword, principal.getAuthorities(), principal.getUserData());
+	}
+
+	private UserPrincipal toPrincipal(Customer customer) {
+		return new UserPrincipal(customer.getEmail(), customer.getPassword(),
+				List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")), userMapper.toDto(customer));
+	}
+
+	private UserPrincipal toPrincipal(Seller seller) {
+		return new UserPrincipal(seller.getEmail(), seller.getPassword(),
+				List.of(new SimpleGrantedAuthority("ROLE_SELLER")), userMapper.toDto(seller));
 	}
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.sunbeam.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Verified JWTs mapped to their Authentication, so a token is parsed and HMAC checked
+ * once per lifetime instead of on every request.
+ *
+ * Keys are SHA-256 digests (raw tokens are never retained), entries expire exactly when
+ * the token does and the cache is bounded by entry count. Invalid tokens are never cached.
+ * Only the immutable parts (user name, unmodifiable authorities) are cached; every request
+ * gets its own Authentication, so details or credentials set downstream never leak into others.
+ * Hit/miss counters are published as cache.* metrics with cache=jwt.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private record VerifiedToken(String username, List<GrantedAuthority> authorities, long expiresAtMillis) {
+    }
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    private final JwtUtils jwtUtils;
+
+    public JwtAuthenticationCache(JwtUtils jwtUtils, MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtUtils = jwtUtils;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((ByteBuffer digest, VerifiedToken token) ->
+                        Duration.ofMillis(Math.max(token.expiresAtMillis() - jwtUtils.getClock().millis(), 0))))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+    }
+
+    /**
+     * Authentication for a bearer token - verified on first sight, then served from the cache
+     * until the token expires. Throws the jjwt exception for an invalid or expired token.
+     */
+    public Authentication authenticate(String jwt) {
+        VerifiedToken token = cache.get(digest(jwt), key -> verify(jwt));
+        return UsernamePasswordAuthenticationToken.authenticated(token.username(), null, token.authorities());
+    }
+
+    private VerifiedToken verify(String jwt) {
+        Claims claims = jwtUtils.validateJwtToken(jwt);
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : jwtUtils.getClock().millis() + TimeUnit.MINUTES.toMillis(5);
+        return new VerifiedToken(jwtUtils.getUserNameFromJwtToken(claims), jwtUtils.getAuthoritiesFromClaims(claims),
+                expiresAt);
+    }
+
+    private static ByteBuffer digest(String jwt) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
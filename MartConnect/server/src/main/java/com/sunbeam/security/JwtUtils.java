@@ -1,5 +1,6 @@
 package com.sunbeam.security;
 
+import java.time.Clock;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
@@ -7,6 +8,7 @@ import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -15,6 +17,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -38,6 +41,16 @@ public class JwtUtils {
 
 	private SecretKey key;//=> represents symmetric key
 
+	// immutable n thread safe once built - shared by all requests instead of rebuilt per token
+	private JwtParser parser;
+
+	// time source for iat/exp n expiry checks - a Clock bean (e.g. fixed in tests) overrides system UTC
+	private final Clock clock;
+
+	public JwtUtils(ObjectProvider<Clock> clockProvider) {
+		this.clock = clockProvider.getIfAvailable(Clock::systemUTC);
+	}
+
 	@PostConstruct
 	public void init() {
 		log.info("Key {} Exp Time {}",jwtSecret,jwtExpirationMs);
@@ -46,6 +59,14 @@ public class JwtUtils {
 		 * Create a Secret Key using HMAC-SHA256 encryption algo.
 		 */		
 		key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+		parser = Jwts.parser()
+				.verifyWith(key) // sets the SAME secret key for JWT signature verification
+				.clock(() -> Date.from(clock.instant()))
+				.build();
+	}
+
+	public Clock getClock() {
+		return clock;
 	}
 
 	// will be invoked by UserSignIn  controller , upon successful
@@ -54,11 +75,11 @@ public class JwtUtils {
 		log.info("generate jwt token " + authentication);// contains verified user details
 		// For now, we'll use a simple approach since we don't have UserEntity
 		String userPrincipal = authentication.getName();
+		long now = clock.millis();
 		return Jwts.builder() // JWTs : a Factory class , used to create JWT tokens
 				.subject((userPrincipal)) // setting subject part of the token
-				.issuedAt(new Date())// Sets the JWT Claims iat (issued at) value of current date
-				.expiration(new Date((new Date()).getTime() 
-						+ jwtExpirationMs))// Sets the JWT Claims exp
+				.issuedAt(new Date(now))// Sets the JWT Claims iat (issued at) value of current date
+				.expiration(new Date(now + jwtExpirationMs))// Sets the JWT Claims exp
 																				// (expiration) value.
 				// setting a custom claim , to add granted authorities
 				.claim("authorities", 
@@ -84,12 +105,7 @@ public class JwtUtils {
 	// this method will be invoked by our custom JWT filter
 	public Claims validateJwtToken(String jwtToken) {
 		// try {
-		Claims claims = Jwts.parser()
-
-				.verifyWith(key) // sets the SAME secret key for JWT signature verification
-				.build()
-
-				// rets the JWT parser set with the Key
+		Claims claims = parser
 				.parseSignedClaims(jwtToken) // rets JWT with Claims added in the body
 				.getPayload();// => JWT valid , rets the Claims(payload)
 		/*
@@ -113,33 +129,27 @@ public class JwtUtils {
 
 		List<String> authorityNamesFromJwt = 
 				(List<String>) claims.get("authorities");
-		List<GrantedAuthority> authorities = 
-				authorityNamesFromJwt.stream()
+		// immutable - the list ends up inside Authentication objects shared across requests
+		return authorityNamesFromJwt.stream()
 				.map(SimpleGrantedAuthority::new)
-				.collect(Collectors.toList());		
-
-		authorities.forEach(System.out::println);
-		return authorities;
+				.collect(Collectors.toUnmodifiableList());
 	}
 
 	
 
 	public Authentication populateAuthenticationTokenFromJWT(String jwt) {
 		// validate JWT n retrieve JWT body (claims)
-		Claims payloadClaims = validateJwtToken(jwt);
+		return populateAuthenticationTokenFromClaims(validateJwtToken(jwt));
+	}
+
+	// builds the auth token from already verified claims (no second parse / signature check)
+	public Authentication populateAuthenticationTokenFromClaims(Claims payloadClaims) {
 		// get user name from the claims
 		String email = getUserNameFromJwtToken(payloadClaims);
 		// get granted authorities as a custom claim
 		List<GrantedAuthority> authorities = getAuthoritiesFromClaims(payloadClaims);
-			// add user name/email , null:password granted authorities in Authentication object
-		UsernamePasswordAuthenticationToken token = 
-				new UsernamePasswordAuthenticationToken(email, null, authorities);
-//		UsernamePasswordAuthenticationToken token = 
-//				new UsernamePasswordAuthenticationToken(new User(email,"", authorities), null, authorities);
-//	
-		System.out.println("is authenticated " + token.isAuthenticated());// true
-		return token;
-
+		// add user name/email , null:password granted authorities in Authentication object
+		return new UsernamePasswordAuthenticationToken(email, null, authorities);
 	}
 
 } 
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.sunbeam.security;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Password hashing - encoder choice n cost
+ */
+@Configuration
+public class PasswordHashingConfiguration {
+
+	public static final String BCRYPT = "bcrypt";
+	public static final String ARGON2 = "argon2";
+
+	/*
+	 * Delegating encoder: new hashes use security.password.encoder (bcrypt by default, argon2 when
+	 * BouncyCastle is on the classpath), stored hashes are tagged {id}. Untagged hashes from before
+	 * are read as bcrypt n upgraded on the next successful login.
+	 */
+	@Bean
+	PasswordEncoder passwordEncoder(@Value("${security.password.encoder:bcrypt}") String encoderId,
+			@Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+		Map<String, PasswordEncoder> encoders = new HashMap<>();
+		encoders.put(BCRYPT, bcrypt);
+		if (ClassUtils.isPresent("org.bouncycastle.crypto.params.Argon2Parameters", getClass().getClassLoader())) {
+			encoders.put(ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+		}
+		if (!encoders.containsKey(encoderId)) {
+			throw new IllegalStateException("Password encoder '" + encoderId + "' is not available");
+		}
+		DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encoderId, encoders);
+		encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+		return encoder;
+	}
+}
@@ -0,0 +1,48 @@
+package com.sunbeam.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Bounded pool that login n registration hashing runs on, so a login burst occupies at most
+ * this many cores n never the Tomcat workers. When the queue is full submit() throws
+ * RejectedExecutionException (callers answer 503). Pool n queue depth are published as
+ * executor.* metrics with name=password.hashing.
+ *
+ * Deliberately not an Executor bean - that would switch off Boot's applicationTaskExecutor.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+
+	public PasswordHashingExecutor(MeterRegistry meterRegistry,
+			@Value("${security.password.hashing.threads:0}") int threads,
+			@Value("${security.password.hashing.queue-capacity:200}") int queueCapacity) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+				new ThreadPoolExecutor.AbortPolicy());
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+	}
+
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, executor);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,65 @@
+package com.sunbeam.security;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.AbstractUserDetailsAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Username/password provider that, when the login request carries the role ("Seller" / "User")
+ * as its details, looks the user up in that role's table only - one query per login.
+ * Hashes stored with an old encoder or lower cost are re-encoded after a successful login.
+ */
+public class RoleAwareAuthenticationProvider extends AbstractUserDetailsAuthenticationProvider {
+
+	private final CustomUserDetailsServiceImpl userDetailsService;
+	private final PasswordEncoder passwordEncoder;
+	// compared against when the user does not exist, so both outcomes cost one hash check
+	private final String dummyPassword;
+
+	public RoleAwareAuthenticationProvider(CustomUserDetailsServiceImpl userDetailsService, PasswordEncoder passwordEncoder) {
+		this.userDetailsService = userDetailsService;
+		this.passwordEncoder = passwordEncoder;
+		this.dummyPassword = passwordEncoder.encode("userNotFoundPassword");
+		// let the login endpoint tell "unknown user" apart from "wrong password", as before
+		setHideUserNotFoundExceptions(false);
+	}
+
+	@Override
+	protected UserDetails retrieveUser(String username, UsernamePasswordAuthenticationToken authentication)
+			throws AuthenticationException {
+		try {
+			if (authentication.getDetails() instanceof String role) {
+				return userDetailsService.loadUserByUsernameAndRole(username, role);
+			}
+			return userDetailsService.loadUserByUsername(username);
+		} catch (UsernameNotFoundException e) {
+			if (authentication.getCredentials() != null) {
+				passwordEncoder.matches(authentication.getCredentials().toString(), dummyPassword);
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+			throws AuthenticationException {
+		if (authentication.getCredentials() == null
+				|| !passwordEncoder.matches(authentication.getCredentials().toString(), userDetails.getPassword())) {
+			throw new BadCredentialsException("Bad credentials");
+		}
+	}
+
+	@Override
+	protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+		if (authentication.getCredentials() != null && passwordEncoder.upgradeEncoding(user.getPassword())) {
+			String newPassword = passwordEncoder.encode(authentication.getCredentials().toString());
+			user = userDetailsService.updatePassword(user, newPassword);
+		}
+		return super.createSuccessAuthentication(user, authentication, user);
+	}
+}
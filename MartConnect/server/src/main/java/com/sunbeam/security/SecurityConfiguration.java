@@ -49,6 +49,8 @@ public class SecurityConfiguration {
 		.requestMatchers(HttpMethod.GET, "/api/products").permitAll()
 		//get product by id - customer
 		.requestMatchers(HttpMethod.GET,"/api/products/{id}").permitAll()
+		//product search - no authentication
+		.requestMatchers(HttpMethod.GET,"/api/products/search/**").permitAll()
 		// Categories - allow read access to all, write access to sellers
 		.requestMatchers(HttpMethod.GET, "/api/categories/**").permitAll()
 		.requestMatchers(HttpMethod.POST, "/api/categories/**").hasRole("SELLER")
@@ -62,6 +64,8 @@ public class SecurityConfiguration {
 		.requestMatchers(HttpMethod.GET, "/api/orders/**").hasAnyRole("SELLER", "CUSTOMER")
 		.requestMatchers(HttpMethod.POST, "/api/orders/**").hasRole("CUSTOMER")
 		.requestMatchers(HttpMethod.PUT, "/api/orders/**").hasAnyRole("SELLER", "CUSTOMER")
+		// Seller analytics - sellers only
+		.requestMatchers("/api/sellers/**").hasRole("SELLER")
 		// Cart management - customers only
 		.requestMatchers("/api/cart/**").hasRole("CUSTOMER")
 		// Area management - customers only
@@ -87,10 +91,17 @@ public class SecurityConfiguration {
 		configuration.addAllowedOrigin("*");
 		configuration.addAllowedMethod("*");
 		configuration.addAllowedHeader("*");
+		//let browser clients read the keyset pagination cursor
+		configuration.addExposedHeader("X-Next-Cursor");
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 		source.registerCorsConfiguration("/**", configuration);
 		return source;
 	}
+	//role aware DAO provider - one user lookup n one password check per login
+	@Bean
+	RoleAwareAuthenticationProvider roleAwareAuthenticationProvider(CustomUserDetailsServiceImpl userDetailsService) {
+		return new RoleAwareAuthenticationProvider(userDetailsService, encoder);
+	}
 	//configure a spring to return Spring security authentication manager
 	@Bean
 	AuthenticationManager authenticationManager
@@ -0,0 +1,42 @@
+package com.sunbeam.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import lombok.Getter;
+
+/**
+ * Authenticated customer or seller - carries the user's DTO so the login
+ * response needs no further lookup
+ */
+@Getter
+public class UserPrincipal implements UserDetails, CredentialsContainer {
+
+	private final String username;
+	private String password;
+	private final List<GrantedAuthority> authorities;
+	// CustomerDto or SellerDto
+	private final Object userData;
+
+	public UserPrincipal(String username, String password, Collection<? extends GrantedAuthority> authorities, Object userData) {
+		this.username = username;
+		this.password = password;
+		this.authorities = List.copyOf(authorities);
+		this.userData = userData;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	// called by the provider once the password has been checked
+	@Override
+	public void eraseCredentials() {
+		password = null;
+	}
+}
@@ -3,6 +3,7 @@ package com.sunbeam.service;
 import java.util.List;
 
 import com.sunbeam.dto.CartDto;
+import com.sunbeam.dto.CartViewDto;
 
 /**
  * Service interface for Cart entity operations
@@ -29,6 +30,11 @@ public interface CartService extends BaseService<CartDto, Integer> {
      */
     List<CartDto> findByCustomer(Integer customerId);
     
+    /**
+     * Priced cart of a customer with line totals, cart total and stock warnings, read in one query
+     */
+    CartViewDto getCartView(Integer customerId);
+    
     /**
      * Get cart item count for customer
      */
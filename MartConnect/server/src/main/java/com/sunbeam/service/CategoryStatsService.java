@@ -0,0 +1,65 @@
+package com.sunbeam.service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.sunbeam.dto.CategoryStatsDto;
+import com.sunbeam.entities.Product;
+
+/**
+ * Service interface for the per-category product aggregates (count, in-stock count, price range)
+ */
+public interface CategoryStatsService {
+    
+    /**
+     * What one product adds to its category's aggregates
+     */
+    record Contribution(Integer categoryId, BigDecimal price, boolean inStock) {
+        
+        /**
+         * Snapshot of a product's current contribution, null when it has no category yet
+         */
+        public static Contribution of(Product product) {
+            if (product == null || product.getCategory() == null || product.getPrice() == null) {
+                return null;
+            }
+            return new Contribution(product.getCategory().getCategoryId(), product.getPrice(),
+                    product.getStock() != null && product.getStock() > 0);
+        }
+    }
+    
+    /**
+     * Apply a product change in the caller's transaction - before is null for a new product, after for a deleted one
+     */
+    void recordChange(Contribution before, Contribution after);
+    
+    /**
+     * Stock of these products was just taken; those now at zero leave their category's in-stock count
+     */
+    void recordStockTaken(Collection<Integer> productIds);
+    
+    /**
+     * Aggregates of every category that has a row (category id -> stats)
+     */
+    Map<Integer, CategoryStatsDto> findAllByCategory();
+    
+    /**
+     * Aggregates of one category - zero counts when it has no products
+     */
+    CategoryStatsDto findByCategory(Integer categoryId);
+    
+    void deleteByCategory(Integer categoryId);
+    
+    /**
+     * Compare the stored aggregates with a fresh products scan, returns the categories that disagree
+     * and rebuilds everything when repair is set and anything does
+     */
+    List<Integer> checkConsistency(boolean repair);
+    
+    /**
+     * Recompute every category's aggregates from products - returns the number of categories written
+     */
+    int rebuild();
+}
@@ -5,7 +5,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +14,7 @@ import com.sunbeam.dao.CustomerDao;
 import com.sunbeam.dto.AreaDto;
 import com.sunbeam.entities.Area;
 import com.sunbeam.entities.Customer;
+import com.sunbeam.mapper.AreaMapper;
 import com.sunbeam.service.AreaService;
 
 @Service
@@ -28,7 +28,7 @@ public class AreaServiceImpl implements AreaService {
     private CustomerDao customerDao;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private AreaMapper areaMapper;
     
     // Core: Add area for customer
     @Override
@@ -40,7 +40,7 @@ public class AreaServiceImpl implements AreaService {
         }
         
         Customer customer = customerOpt.get();
-        Area area = modelMapper.map(areaDto, Area.class);
+        Area area = areaMapper.toEntity(areaDto);
         
         // Set the customer
         area.setCustomer(customer);
@@ -49,40 +49,45 @@ public class AreaServiceImpl implements AreaService {
         area.setCreatedAt(LocalDateTime.now());
         
         Area savedArea = areaDao.save(area);
-        return modelMapper.map(savedArea, AreaDto.class);
+        return areaMapper.toDto(savedArea);
     }
     
     // Essential CRUD methods
     @Override
     public AreaDto save(AreaDto areaDto) { 
-        Area area = modelMapper.map(areaDto, Area.class);
+        Area area = areaMapper.toEntity(areaDto);
         Area savedArea = areaDao.save(area);
-        return modelMapper.map(savedArea, AreaDto.class);
+        return areaMapper.toDto(savedArea);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<AreaDto> findById(Integer id) { 
-        return areaDao.findById(id).map(area -> modelMapper.map(area, AreaDto.class)); 
+        return areaDao.findById(id).map(areaMapper::toDto); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<AreaDto> findAll() { 
-        return areaDao.findAll().stream().map(area -> modelMapper.map(area, AreaDto.class)).collect(Collectors.toList()); 
+        return areaDao.findAll().stream().map(areaMapper::toDto).collect(Collectors.toList()); 
     }
     
     @Override
     public void deleteById(Integer id) { areaDao.deleteById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Integer id) { return areaDao.existsById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public long count() { return areaDao.count(); }
     
     @Override
+    @Transactional(readOnly = true)
     public List<AreaDto> findByCustomer(Integer customerId) {
         return areaDao.findByCustomer_CustomerId(customerId).stream()
-                .map(area -> modelMapper.map(area, AreaDto.class))
+                .map(areaMapper::toDto)
                 .collect(Collectors.toList());
     }
    
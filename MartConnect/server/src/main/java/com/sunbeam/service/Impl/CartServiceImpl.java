@@ -2,22 +2,29 @@ package com.sunbeam.service.Impl;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.sunbeam.cart.CartWriteBuffer;
 import com.sunbeam.dao.CartDao;
 import com.sunbeam.dao.CustomerDao;
 import com.sunbeam.dao.ProductDao;
 import com.sunbeam.dto.CartDto;
+import com.sunbeam.dto.CartItemDto;
+import com.sunbeam.dto.CartItemDto.StockStatus;
+import com.sunbeam.dto.CartViewDto;
 import com.sunbeam.entities.Cart;
 import com.sunbeam.entities.Customer;
 import com.sunbeam.entities.Product;
+import com.sunbeam.mapper.CartMapper;
 import com.sunbeam.service.CartService;
 
 @Service
@@ -34,37 +41,58 @@ public class CartServiceImpl implements CartService {
     private CustomerDao customerDao;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private CartMapper cartMapper;
+    
+    @Autowired
+    private CartWriteBuffer cartWriteBuffer;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
     
     // Essential CRUD methods
     @Override
     public CartDto save(CartDto cartDto) { 
-        Cart cart = modelMapper.map(cartDto, Cart.class);
+        Cart cart = cartMapper.toEntity(cartDto);
         Cart savedCart = cartDao.save(cart);
-        return modelMapper.map(savedCart, CartDto.class);
+        return cartMapper.toDto(savedCart);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<CartDto> findById(Integer id) { 
-        return cartDao.findById(id).map(cart -> modelMapper.map(cart, CartDto.class)); 
+        return cartDao.findById(id).map(cartMapper::toDto); 
     }
     
+    /*
+     * Cart reads flush the buffered clicks first, in the buffer's own transaction, and only then open theirs:
+     * one pooled connection at a time. The read transaction is read-write on purpose - read-only work goes
+     * to the replica when one is configured, and that may not have the lines just flushed yet.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CartDto> findAll() { 
-        return cartDao.findAll().stream().map(cart -> modelMapper.map(cart, CartDto.class)).collect(Collectors.toList()); 
+        cartWriteBuffer.flushAll();
+        return transactionTemplate.execute(status -> cartDao.findAll().stream().map(cartMapper::toDto)
+                .collect(Collectors.toList()));
     }
     
     @Override
     public void deleteById(Integer id) { cartDao.deleteById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Integer id) { return cartDao.existsById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public long count() { return cartDao.count(); }
     
     @Override
     public CartDto addToCart(CartDto cartDto) {
+        if (cartWriteBuffer.isEnabled()) {
+            return cartWriteBuffer.add(cartDto.getCustomerId(), cartDto.getProductId(), cartDto.getQuantity());
+        }
+        
         // Validate customer exists
         Optional<Customer> customerOpt = customerDao.findById(cartDto.getCustomerId());
         if (customerOpt.isEmpty()) {
@@ -88,7 +116,7 @@ public class CartServiceImpl implements CartService {
             existingCart.setQuantity(existingCart.getQuantity() + cartDto.getQuantity());
             existingCart.setUpdatedAt(LocalDateTime.now());
             Cart updatedCart = cartDao.save(existingCart);
-            return modelMapper.map(updatedCart, CartDto.class);
+            return cartMapper.toDto(updatedCart);
         }
         
         // Create new cart item
@@ -99,11 +127,15 @@ public class CartServiceImpl implements CartService {
         newCart.setCreatedAt(LocalDateTime.now());
         
         Cart savedCart = cartDao.save(newCart);
-        return modelMapper.map(savedCart, CartDto.class);
+        return cartMapper.toDto(savedCart);
     }
     
     @Override
     public CartDto updateQuantity(Integer cartId, Integer newQuantity) {
+        if (cartWriteBuffer.isEnabled()) {
+            return cartWriteBuffer.setQuantity(cartId, newQuantity);
+        }
+        
         Optional<Cart> cartOpt = cartDao.findById(cartId);
         if (cartOpt.isEmpty()) {
             throw new RuntimeException("Cart item not found with ID: " + cartId);
@@ -119,11 +151,15 @@ public class CartServiceImpl implements CartService {
         cart.setQuantity(newQuantity);
         cart.setUpdatedAt(LocalDateTime.now());
         Cart updatedCart = cartDao.save(cart);
-        return modelMapper.map(updatedCart, CartDto.class);
+        return cartMapper.toDto(updatedCart);
     }
     
     @Override
     public void removeFromCart(Integer cartId) {
+        if (cartWriteBuffer.isEnabled()) {
+            cartWriteBuffer.remove(cartId);
+            return;
+        }
         if (!cartDao.existsById(cartId)) {
             throw new RuntimeException("Cart item not found with ID: " + cartId);
         }
@@ -131,9 +167,40 @@ public class CartServiceImpl implements CartService {
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CartDto> findByCustomer(Integer customerId) {
-        return cartDao.findByCustomer_CustomerId(customerId).stream()
-                .map(cart -> modelMapper.map(cart, CartDto.class))
-                .collect(Collectors.toList());
+        cartWriteBuffer.flush(customerId);
+        return transactionTemplate.execute(status -> cartDao.findByCustomer_CustomerId(customerId).stream()
+                .map(cartMapper::toDto)
+                .collect(Collectors.toList()));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CartViewDto getCartView(Integer customerId) {
+        cartWriteBuffer.flush(customerId);
+        return transactionTemplate.execute(status -> priceCart(customerId));
+    }
+    
+    private CartViewDto priceCart(Integer customerId) {
+        List<CartItemDto> items = cartDao.findItemsByCustomer(customerId);
+        BigDecimal cartTotal = BigDecimal.ZERO;
+        int totalQuantity = 0;
+        List<String> stockWarnings = new ArrayList<>();
+        for (CartItemDto item : items) {
+            item.setTotalPrice(item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+            cartTotal = cartTotal.add(item.getTotalPrice());
+            totalQuantity += item.getQuantity();
+            if (item.getStock() <= 0) {
+                item.setStockStatus(StockStatus.OUT_OF_STOCK);
+                stockWarnings.add(item.getProductName() + " is out of stock");
+            } else if (item.getStock() < item.getQuantity()) {
+                item.setStockStatus(StockStatus.INSUFFICIENT_STOCK);
+                stockWarnings.add("Only " + item.getStock() + " " + item.getUnit() + " of " + item.getProductName() + " left");
+            } else {
+                item.setStockStatus(StockStatus.IN_STOCK);
+            }
+        }
+        return new CartViewDto(customerId, items, items.size(), totalQuantity, cartTotal, stockWarnings);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -2,10 +2,10 @@ package com.sunbeam.service.Impl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,9 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 import com.sunbeam.dao.CategoryDao;
 import com.sunbeam.dao.ProductDao;
 import com.sunbeam.dto.CategoryDto;
+import com.sunbeam.dto.CategoryStatsDto;
 import com.sunbeam.entities.Category;
 import com.sunbeam.entities.Product;
+import com.sunbeam.mapper.CategoryMapper;
 import com.sunbeam.service.CategoryService;
+import com.sunbeam.service.CategoryStatsService;
 
 @Service
 @Transactional
@@ -28,12 +31,15 @@ public class CategoryServiceImpl implements CategoryService {
     private ProductDao productDao;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private CategoryMapper categoryMapper;
+    
+    @Autowired
+    private CategoryStatsService categoryStatsService;
     
     // Core: Add category with validation
     @Override
     public CategoryDto addCategory(CategoryDto categoryDto) {
-        Category category = modelMapper.map(categoryDto, Category.class);
+        Category category = categoryMapper.toEntity(categoryDto);
         
         if (categoryDao.existsByName(category.getName())) {
             throw new RuntimeException("Category with name " + category.getName() + " already exists");
@@ -41,7 +47,7 @@ public class CategoryServiceImpl implements CategoryService {
         
         category.setCreatedAt(LocalDateTime.now());
         Category savedCategory = categoryDao.save(category);
-        return modelMapper.map(savedCategory, CategoryDto.class);
+        return categoryMapper.toDto(savedCategory);
     }
     
     // Core: Update category
@@ -53,53 +59,71 @@ public class CategoryServiceImpl implements CategoryService {
         }
         
         Category existing = existingCategory.get();
-        Category category = modelMapper.map(categoryDto, Category.class);
+        Category category = categoryMapper.toEntity(categoryDto);
         
         if (category.getName() != null) existing.setName(category.getName());
         if (category.getDescription() != null) existing.setDescription(category.getDescription());
         
         Category savedCategory = categoryDao.save(existing);
-        return modelMapper.map(savedCategory, CategoryDto.class);
+        return categoryMapper.toDto(savedCategory);
     }
     
     // Essential CRUD methods
     @Override
     public CategoryDto save(CategoryDto categoryDto) { 
-        Category category = modelMapper.map(categoryDto, Category.class);
+        Category category = categoryMapper.toEntity(categoryDto);
         Category savedCategory = categoryDao.save(category);
-        return modelMapper.map(savedCategory, CategoryDto.class);
+        return categoryMapper.toDto(savedCategory);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<CategoryDto> findById(Integer id) { 
         Optional<Category> categoryOpt = categoryDao.findById(id);
-        return categoryOpt.map(category -> modelMapper.map(category, CategoryDto.class));
+        return categoryOpt.map(categoryMapper::toDto)
+                .map(category -> withStats(category, categoryStatsService.findByCategory(id)));
     }
     
+    // categories come from the query cache, their aggregates from one read of category_stats
     @Override
+    @Transactional(readOnly = true)
     public List<CategoryDto> findAll() { 
+        Map<Integer, CategoryStatsDto> statsByCategory = categoryStatsService.findAllByCategory();
         return categoryDao.findAll().stream()
-                .map(category -> modelMapper.map(category, CategoryDto.class))
+                .map(categoryMapper::toDto)
+                .map(category -> withStats(category, statsByCategory.get(category.getCategoryId())))
                 .collect(Collectors.toList());
     }
     
+    private static CategoryDto withStats(CategoryDto category, CategoryStatsDto stats) {
+        category.setStats(stats != null ? stats : CategoryStatsDto.empty());
+        return category;
+    }
+    
     @Override
-    public void deleteById(Integer id) { categoryDao.deleteById(id); }
+    public void deleteById(Integer id) {
+        categoryDao.deleteById(id);
+        categoryStatsService.deleteByCategory(id);
+    }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Integer id) { return categoryDao.existsById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public long count() { return categoryDao.count(); }
     
     // Essential search methods
     @Override
+    @Transactional(readOnly = true)
     public Optional<CategoryDto> findByName(String name) { 
         Optional<Category> categoryOpt = categoryDao.findByName(name);
-        return categoryOpt.map(category -> modelMapper.map(category, CategoryDto.class));
+        return categoryOpt.map(categoryMapper::toDto);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByName(String name) { return categoryDao.existsByName(name); }
     
 //    @Override
@@ -121,6 +145,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
         
         categoryDao.deleteById(categoryId);
+        categoryStatsService.deleteByCategory(categoryId);
     }
     
     @Override
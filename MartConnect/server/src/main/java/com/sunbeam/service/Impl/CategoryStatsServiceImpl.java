@@ -0,0 +1,167 @@
+package com.sunbeam.service.Impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunbeam.dao.CategoryStatsDao;
+import com.sunbeam.dao.ProductDao;
+import com.sunbeam.dto.CategoryStatsDto;
+import com.sunbeam.entities.CategoryStats;
+import com.sunbeam.mapper.CategoryMapper;
+import com.sunbeam.service.CategoryStatsService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aggregates are maintained by deltas in the same transaction as the product write, so they
+ * commit or roll back with it. Only removing a category's cheapest or dearest product costs
+ * a look at the products table (that category's rows only). A full products scan happens
+ * solely in the consistency check, which runs once on startup.
+ */
+@Service
+@Transactional
+@Slf4j
+public class CategoryStatsServiceImpl implements CategoryStatsService {
+    
+    @Autowired
+    private CategoryStatsDao categoryStatsDao;
+    
+    @Autowired
+    private ProductDao productDao;
+    
+    @Autowired
+    private CategoryMapper categoryMapper;
+    
+    @Value("${category.stats.check-on-startup:true}")
+    private boolean checkOnStartup;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (checkOnStartup) {
+            checkConsistency(true);
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (before != null && after != null && before.categoryId().equals(after.categoryId())
+                && before.price().compareTo(after.price()) == 0) {
+            // stock crossed zero, nothing else moved
+            categoryStatsDao.adjustInStock(Map.of(after.categoryId(), after.inStock() ? 1 : -1), now);
+            return;
+        }
+        if (before != null) {
+            categoryStatsDao.removeProduct(before.categoryId(), before.price(), before.inStock(), now);
+        }
+        if (after != null) {
+            categoryStatsDao.addProduct(after.categoryId(), after.price(), after.inStock(), now);
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStockTaken(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        // a successful take leaves stock >= 0 from stock >= 1, so zero now means it just ran out
+        Map<Integer, Integer> deltaByCategory = new TreeMap<>();
+        for (Object[] row : productDao.countOutOfStockByCategory(productIds)) {
+            deltaByCategory.put((Integer) row[0], -((Long) row[1]).intValue());
+        }
+        categoryStatsDao.adjustInStock(deltaByCategory, LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, CategoryStatsDto> findAllByCategory() {
+        return categoryStatsDao.findAll().stream()
+                .collect(Collectors.toMap(CategoryStats::getCategoryId, categoryMapper::toStatsDto));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryStatsDto findByCategory(Integer categoryId) {
+        return categoryStatsDao.findById(categoryId).map(categoryMapper::toStatsDto)
+                .orElseGet(() -> CategoryStatsDto.empty());
+    }
+    
+    @Override
+    public void deleteByCategory(Integer categoryId) {
+        categoryStatsDao.deleteById(categoryId);
+    }
+    
+    @Override
+    public List<Integer> checkConsistency(boolean repair) {
+        Map<Integer, CategoryStats> expected = categoryStatsDao.computeFromProducts();
+        Map<Integer, CategoryStats> stored = categoryStatsDao.findAll().stream()
+                .collect(Collectors.toMap(CategoryStats::getCategoryId, Function.identity()));
+        
+        Set<Integer> categoryIds = new TreeSet<>(expected.keySet());
+        categoryIds.addAll(stored.keySet());
+        List<Integer> mismatched = new ArrayList<>();
+        for (Integer categoryId : categoryIds) {
+            if (!sameAggregates(expected.get(categoryId), stored.get(categoryId))) {
+                mismatched.add(categoryId);
+            }
+        }
+        
+        if (mismatched.isEmpty()) {
+            log.info("Category stats consistent for {} categories", categoryIds.size());
+        } else {
+            log.warn("Category stats out of step with products for categories {}{}", mismatched, repair ? " - rebuilding" : "");
+            if (repair) {
+                rebuild();
+            }
+        }
+        return mismatched;
+    }
+    
+    @Override
+    public int rebuild() {
+        int categories = categoryStatsDao.rebuildFromProducts(LocalDateTime.now());
+        log.info("Category stats rebuilt for {} categories", categories);
+        return categories;
+    }
+    
+    // a missing row and a row with no products both mean "empty category"
+    private static boolean sameAggregates(CategoryStats expected, CategoryStats stored) {
+        boolean expectedEmpty = expected == null || expected.getProductCount() == 0;
+        boolean storedEmpty = stored == null || stored.getProductCount() == 0;
+        if (expectedEmpty || storedEmpty) {
+            return expectedEmpty && storedEmpty && (stored == null || stored.getInStockCount() == 0);
+        }
+        return expected.getProductCount().equals(stored.getProductCount())
+                && expected.getInStockCount().equals(stored.getInStockCount())
+                && sameAmount(expected.getPriceSum(), stored.getPriceSum())
+                && sameAmount(expected.getMinPrice(), stored.getMinPrice())
+                && sameAmount(expected.getMaxPrice(), stored.getMaxPrice());
+    }
+    
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
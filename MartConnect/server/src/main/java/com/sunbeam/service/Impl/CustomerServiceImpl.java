@@ -5,7 +5,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -15,6 +14,7 @@ import com.sunbeam.dao.CustomerDao;
 import com.sunbeam.dao.OrderDao;
 import com.sunbeam.dto.CustomerDto;
 import com.sunbeam.entities.Customer;
+import com.sunbeam.mapper.UserMapper;
 import com.sunbeam.service.CustomerService;
 
 @Service
@@ -31,7 +31,7 @@ public class CustomerServiceImpl implements CustomerService {
     private PasswordEncoder passwordEncoder;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
     
     // Core: Customer registration with validation
     @Override
@@ -46,7 +46,7 @@ public class CustomerServiceImpl implements CustomerService {
             throw new RuntimeException("Customer with phone " + customerDto.getPhone() + " already exists");
         }
         
-        Customer customer = modelMapper.map(customerDto, Customer.class);
+        Customer customer = userMapper.toEntity(customerDto);
         
         // Encode password
         customer.setPassword(passwordEncoder.encode(customerDto.getPassword()));
@@ -56,7 +56,7 @@ public class CustomerServiceImpl implements CustomerService {
         customer.setUpdatedAt(LocalDateTime.now());
         
         Customer savedCustomer = customerDao.save(customer);
-        return modelMapper.map(savedCustomer, CustomerDto.class);
+        return userMapper.toDto(savedCustomer);
     }
     
     // Core: Customer authentication
@@ -74,42 +74,48 @@ public class CustomerServiceImpl implements CustomerService {
             throw new RuntimeException("Invalid password for customer: " + email);
         }
         
-        return modelMapper.map(customer, CustomerDto.class);
+        return userMapper.toDto(customer);
     }
     
     // Essential CRUD methods
     @Override
     public CustomerDto save(CustomerDto customerDto) { 
-        Customer customer = modelMapper.map(customerDto, Customer.class);
+        Customer customer = userMapper.toEntity(customerDto);
         Customer savedCustomer = customerDao.save(customer);
-        return modelMapper.map(savedCustomer, CustomerDto.class);
+        return userMapper.toDto(savedCustomer);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<CustomerDto> findById(Integer id) { 
-        return customerDao.findById(id).map(customer -> modelMapper.map(customer, CustomerDto.class)); 
+        return customerDao.findById(id).map(userMapper::toDto); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerDto> findAll() { 
-        return customerDao.findAll().stream().map(customer -> modelMapper.map(customer, CustomerDto.class)).collect(Collectors.toList()); 
+        return customerDao.findAll().stream().map(userMapper::toDto).collect(Collectors.toList()); 
     }
     
     @Override
     public void deleteById(Integer id) { customerDao.deleteById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Integer id) { return customerDao.existsById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public long count() { return customerDao.count(); }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<CustomerDto> findByEmail(String email) { 
-        return customerDao.findByEmail(email).map(customer -> modelMapper.map(customer, CustomerDto.class)); 
+        return customerDao.findByEmail(email).map(userMapper::toDto); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) { return customerDao.existsByEmail(email); }
     
 } 
\ No newline at end of file
@@ -1,35 +1,66 @@
 package com.sunbeam.service.Impl;
+import java.nio.charset.StandardCharsets;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.sunbeam.cart.CartWriteBuffer;
+import com.sunbeam.custom_exceptions.InvalidInputException;
+import com.sunbeam.custom_exceptions.ResourceNotFoundException;
+import com.sunbeam.dao.CartDao;
 import com.sunbeam.dao.CustomerDao;
 import com.sunbeam.dao.OrderDao;
 import com.sunbeam.dao.ProductDao;
 import com.sunbeam.dao.SellerDao;
-import com.sunbeam.dto.CustomerDto;
+import com.sunbeam.dto.CartItemDto;
+import com.sunbeam.dto.CheckoutDto;
 import com.sunbeam.dto.OrderDto;
-import com.sunbeam.dto.ProductDto;
-import com.sunbeam.dto.SellerDto;
+import com.sunbeam.dto.OrderSliceDto;
+import com.sunbeam.dto.OrderStatusTotalDto;
+import com.sunbeam.dto.OrderSummaryDto;
 import com.sunbeam.entities.Customer;
 import com.sunbeam.entities.Order;
 import com.sunbeam.entities.OrderItem;
 import com.sunbeam.entities.Product;
 import com.sunbeam.entities.Seller;
+import com.sunbeam.mapper.OrderMapper;
 import com.sunbeam.service.OrderService;
+import com.sunbeam.service.SellerAnalyticsService;
+import com.sunbeam.service.StockReservationService;
 
 @Service
 @Transactional
 public class OrderServiceImpl implements OrderService {
     
+    public static final int MAX_SUMMARY_PAGE_SIZE = 100;
+    
+    public static final int MAX_FEED_PAGE_SIZE = 100;
+    
+    private static final String FEED_CURSOR_PREFIX = "o:";
+    
+    // open window bounds, inside MySQL DATETIME range
+    private static final LocalDateTime FEED_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FEED_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+    
     @Autowired
     private OrderDao orderDao;
     
@@ -43,12 +74,43 @@ public class OrderServiceImpl implements OrderService {
     private SellerDao sellerDao;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private OrderMapper orderMapper;
+    
+    @Autowired
+    private StockReservationService stockReservationService;
+    
+    @Autowired
+    private SellerAnalyticsService sellerAnalyticsService;
+    
+    @Autowired
+    private CartDao cartDao;
+    
+    @Autowired
+    private CartWriteBuffer cartWriteBuffer;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
     
     // Core: Create order with validation and stock update
     @Override
     public OrderDto createOrder(OrderDto orderDto) {
-        Order order = modelMapper.map(orderDto, Order.class);
+        // Validate every item and reserve its stock before anything is written,
+        // so a short item fails the checkout without leaving an order row behind
+        Map<Integer, Integer> quantitiesByProduct = new LinkedHashMap<>();
+        if (orderDto.getOrderItems() != null) {
+            for (com.sunbeam.dto.OrderItemDto itemDto : orderDto.getOrderItems()) {
+                if (itemDto.getProductId() == null) {
+                    throw new RuntimeException("Product ID is required for order item");
+                }
+                if (itemDto.getQuantity() == null || itemDto.getQuantity() < 1) {
+                    throw new InvalidInputException("Quantity must be at least 1 for product ID: " + itemDto.getProductId());
+                }
+                quantitiesByProduct.merge(itemDto.getProductId(), itemDto.getQuantity(), Integer::sum);
+            }
+        }
+        stockReservationService.reserve(quantitiesByProduct);
+        
+        Order order = orderMapper.toEntity(orderDto);
         
         // Handle customer by ID
         if (orderDto.getCustomerId() != null) {
@@ -74,26 +136,25 @@ public class OrderServiceImpl implements OrderService {
             throw new RuntimeException("Seller ID is required for order");
         }
         
-        // Handle order items
+        // Handle order items (stock already reserved above, products read after the decrement)
         if (orderDto.getOrderItems() != null && !orderDto.getOrderItems().isEmpty()) {
+            // one query for every product in the basket instead of a findById per line
+            Map<Integer, Product> productsById = productDao.findAllWithCategoryByIdIn(quantitiesByProduct.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+            
             List<OrderItem> orderItems = new ArrayList<>();
             for (com.sunbeam.dto.OrderItemDto itemDto : orderDto.getOrderItems()) {
-                OrderItem item = modelMapper.map(itemDto, OrderItem.class);
+                OrderItem item = orderMapper.toEntity(itemDto);
                 
                 // Set the order reference
                 item.setOrder(order);
                 
-                // Handle product by ID
-                if (itemDto.getProductId() != null) {
-                    Optional<Product> productOpt = productDao.findById(itemDto.getProductId());
-                    if (productOpt.isPresent()) {
-                        item.setProduct(productOpt.get());
-                    } else {
-                        throw new RuntimeException("Product not found with ID: " + itemDto.getProductId());
-                    }
-                } else {
-                    throw new RuntimeException("Product ID is required for order item");
+                Product product = productsById.get(itemDto.getProductId());
+                if (product == null) {
+                    throw new RuntimeException("Product not found with ID: " + itemDto.getProductId());
                 }
+                item.setProduct(product);
                 
                 orderItems.add(item);
             }
@@ -103,73 +164,89 @@ public class OrderServiceImpl implements OrderService {
         order.setOrderDate(LocalDateTime.now());
         order.setPaymentStatus(Order.PaymentStatus.PAID);
         
-        // Store order items before saving order
-        List<OrderItem> orderItems = order.getOrderItems();
-        
-        // Save the order first (this will cascade save the order items)
+        // Save the order (this will cascade save the order items)
         Order savedOrder = orderDao.save(order);
-        
-        // Update stock for each order item
-        if (orderItems != null && !orderItems.isEmpty()) {
-            for (OrderItem item : orderItems) {
-                Optional<Product> productOpt = productDao.findById(item.getProduct().getProductId());
-                if (productOpt.isPresent()) {
-                    Product product = productOpt.get();
-                    int newStock = product.getStock() - item.getQuantity();
-                    if (newStock < 0) {
-                        throw new RuntimeException("Insufficient stock for product: " + product.getName());
-                    }
-                    product.setStock(newStock);
-                    product.setUpdatedAt(LocalDateTime.now());
-                    productDao.save(product);
-                }
-            }
+        sellerAnalyticsService.recordOrder(savedOrder);
+        return orderMapper.toDto(savedOrder);
+    }
+    
+    /*
+     * Round trips do not grow with the number of sellers or lines: one read of the cart (with prices,
+     * sellers and shop names), one customer lookup, the batched stock decrement, batched order and item
+     * inserts (pooled ids) and one delete of the ordered cart lines. Products and sellers are only
+     * referenced by id, never loaded.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CheckoutDto checkoutCart(Integer customerId, String transactionId) {
+        // clicks still sitting in the write-behind buffer are part of the cart being checked out - they are
+        // committed first, so the checkout transaction holds a single connection and a failed checkout
+        // leaves them in the cart
+        cartWriteBuffer.flush(customerId);
+        return transactionTemplate.execute(status -> placeCartOrders(customerId, transactionId));
+    }
+    
+    private CheckoutDto placeCartOrders(Integer customerId, String transactionId) {
+        Customer customer = customerDao.findById(customerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
+        List<CartItemDto> lines = cartDao.findItemsByCustomer(customerId);
+        if (lines.isEmpty()) {
+            throw new InvalidInputException("Cart is empty");
         }
         
-        OrderDto resultDto = modelMapper.map(savedOrder, OrderDto.class);
-        
-        // Populate customer and seller objects for frontend compatibility
-        if (savedOrder.getCustomer() != null) {
-            resultDto.setCustomerName(savedOrder.getCustomer().getFirstName() + " " + savedOrder.getCustomer().getLastName());
-            CustomerDto customerDto = modelMapper.map(savedOrder.getCustomer(), CustomerDto.class);
-            resultDto.setCustomer(customerDto);
+        Map<Integer, Integer> quantitiesByProduct = new LinkedHashMap<>();
+        Map<Integer, List<CartItemDto>> linesBySeller = new LinkedHashMap<>();
+        for (CartItemDto line : lines) {
+            quantitiesByProduct.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+            linesBySeller.computeIfAbsent(line.getSellerId(), id -> new ArrayList<>()).add(line);
         }
+        stockReservationService.reserve(quantitiesByProduct);
         
-        if (savedOrder.getSeller() != null) {
-            resultDto.setSellerName(savedOrder.getSeller().getFirstName() + " " + savedOrder.getSeller().getLastName());
-            resultDto.setShopName(savedOrder.getSeller().getShopName());
-            SellerDto sellerDto = modelMapper.map(savedOrder.getSeller(), SellerDto.class);
-            resultDto.setSeller(sellerDto);
+        LocalDateTime now = LocalDateTime.now();
+        List<Order> orders = new ArrayList<>(linesBySeller.size());
+        for (Map.Entry<Integer, List<CartItemDto>> entry : linesBySeller.entrySet()) {
+            Order order = new Order();
+            order.setCustomer(customer);
+            order.setSeller(sellerDao.getReferenceById(entry.getKey()));
+            order.setDeliveryCharge(BigDecimal.ZERO);
+            order.setPaymentStatus(Order.PaymentStatus.PAID);
+            order.setTransactionId(transactionId);
+            order.setOrderDate(now);
+            order.setCreatedAt(now);
+            order.setUpdatedAt(now);
+            BigDecimal total = BigDecimal.ZERO;
+            for (CartItemDto line : entry.getValue()) {
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(productDao.getReferenceById(line.getProductId()));
+                item.setQuantity(line.getQuantity());
+                item.setPricePerUnit(line.getPrice());
+                item.setCreatedAt(now);
+                order.getOrderItems().add(item);
+                total = total.add(line.getPrice().multiply(BigDecimal.valueOf(line.getQuantity())));
+            }
+            order.setTotalAmount(total);
+            orders.add(order);
         }
+        orderDao.saveAll(orders);
+        orders.forEach(sellerAnalyticsService::recordOrder);
         
-        // Populate order items with product information
-        if (savedOrder.getOrderItems() != null && !savedOrder.getOrderItems().isEmpty()) {
-            List<com.sunbeam.dto.OrderItemDto> orderItemDtos = savedOrder.getOrderItems().stream()
-                    .map(item -> {
-                        com.sunbeam.dto.OrderItemDto itemDto = modelMapper.map(item, com.sunbeam.dto.OrderItemDto.class);
-                        
-                        // Populate product information
-                        if (item.getProduct() != null) {
-                            itemDto.setProductName(item.getProduct().getName());
-                            itemDto.setProductImageUrl(item.getProduct().getImageUrl());
-                            
-                            // Create product object for frontend compatibility
-                            ProductDto productDto = modelMapper.map(item.getProduct(), ProductDto.class);
-                            itemDto.setProduct(productDto);
-                        }
-                        
-                        // Calculate total price
-                        if (item.getPricePerUnit() != null && item.getQuantity() != null) {
-                            itemDto.setTotalPrice(item.getPricePerUnit().multiply(new BigDecimal(item.getQuantity())));
-                        }
-                        
-                        return itemDto;
-                    })
-                    .collect(Collectors.toList());
-            resultDto.setOrderItems(orderItemDtos);
-        }
+        List<Integer> cartIds = lines.stream().map(CartItemDto::getCartId).toList();
+        cartDao.deleteByCartIdIn(cartIds);
+        cartWriteBuffer.forget(cartIds);
         
-        return resultDto;
+        String customerName = customer.getFirstName() + " " + customer.getLastName();
+        List<OrderSummaryDto> summaries = new ArrayList<>(orders.size());
+        BigDecimal grandTotal = BigDecimal.ZERO;
+        for (Order order : orders) {
+            List<CartItemDto> sellerLines = linesBySeller.get(order.getSeller().getSellerId());
+            summaries.add(new OrderSummaryDto(order.getOrderId(), order.getOrderDate(), order.getPaymentStatus(),
+                    order.getTotalAmount(), order.getDeliveryCharge(), order.getTransactionId(), customerId,
+                    customerName, customer.getAddress(), order.getSeller().getSellerId(), sellerLines.get(0).getShopName(),
+                    (long) sellerLines.size()));
+            grandTotal = grandTotal.add(order.getTotalAmount());
+        }
+        return new CheckoutDto(customerId, summaries, lines.size(), grandTotal);
     }
     
 
@@ -200,14 +277,14 @@ public class OrderServiceImpl implements OrderService {
 //        order.setPaymentStatus(Order.PaymentStatus.CANCELLED);
 //        order.setUpdatedAt(LocalDateTime.now());
 //        Order savedOrder = orderDao.save(order);
-//        return modelMapper.map(savedOrder, OrderDto.class);
+//        return orderMapper.toDto(savedOrder);
 //    }
 
     
     // Essential CRUD methods
     @Override
     public OrderDto save(OrderDto orderDto) { 
-        Order order = modelMapper.map(orderDto, Order.class);
+        Order order = orderMapper.toEntity(orderDto);
         
         // Handle customer by ID
         if (orderDto.getCustomerId() != null) {
@@ -230,64 +307,21 @@ public class OrderServiceImpl implements OrderService {
         }
         
         Order savedOrder = orderDao.save(order);
-        return modelMapper.map(savedOrder, OrderDto.class);
+        return orderMapper.toDto(savedOrder);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<OrderDto> findById(Integer id) { 
         Optional<Order> orderOpt = orderDao.findById(id);
-        return orderOpt.map(order -> {
-            OrderDto orderDto = modelMapper.map(order, OrderDto.class);
-            
-            // Populate customer and seller objects for frontend compatibility
-            if (order.getCustomer() != null) {
-                orderDto.setCustomerName(order.getCustomer().getFirstName() + " " + order.getCustomer().getLastName());
-                CustomerDto customerDto = modelMapper.map(order.getCustomer(), CustomerDto.class);
-                orderDto.setCustomer(customerDto);
-            }
-            
-            if (order.getSeller() != null) {
-                orderDto.setSellerName(order.getSeller().getFirstName() + " " + order.getSeller().getLastName());
-                orderDto.setShopName(order.getSeller().getShopName());
-                SellerDto sellerDto = modelMapper.map(order.getSeller(), SellerDto.class);
-                orderDto.setSeller(sellerDto);
-            }
-            
-            // Populate order items with product information
-            if (order.getOrderItems() != null && !order.getOrderItems().isEmpty()) {
-                List<com.sunbeam.dto.OrderItemDto> orderItemDtos = order.getOrderItems().stream()
-                        .map(item -> {
-                            com.sunbeam.dto.OrderItemDto itemDto = modelMapper.map(item, com.sunbeam.dto.OrderItemDto.class);
-                            
-                            // Populate product information
-                            if (item.getProduct() != null) {
-                                itemDto.setProductName(item.getProduct().getName());
-                                itemDto.setProductImageUrl(item.getProduct().getImageUrl());
-                                
-                                // Create product object for frontend compatibility
-                                ProductDto productDto = modelMapper.map(item.getProduct(), ProductDto.class);
-                                itemDto.setProduct(productDto);
-                            }
-                            
-                            // Calculate total price
-                            if (item.getPricePerUnit() != null && item.getQuantity() != null) {
-                                itemDto.setTotalPrice(item.getPricePerUnit().multiply(new BigDecimal(item.getQuantity())));
-                            }
-                            
-                            return itemDto;
-                        })
-                        .collect(Collectors.toList());
-                orderDto.setOrderItems(orderItemDtos);
-            }
-            
-            return orderDto;
-        });
+        return orderOpt.map(orderMapper::toDto);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDto> findAll() { 
         return orderDao.findAll().stream()
-                .map(order -> modelMapper.map(order, OrderDto.class))
+                .map(orderMapper::toDto)
                 .collect(Collectors.toList());
     }
     
@@ -295,122 +329,116 @@ public class OrderServiceImpl implements OrderService {
     public void deleteById(Integer id) { orderDao.deleteById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Integer id) { return orderDao.existsById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public long count() { return orderDao.count(); }
     
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDto> findBySellerWithCustomerAndItems(Integer sellerId) { 
         return orderDao.findBySellerWithCustomerAndItems(sellerId).stream()
-                .map(order -> {
-                    OrderDto orderDto = modelMapper.map(order, OrderDto.class);
-                    
-                    // Manually populate customer information
-                    if (order.getCustomer() != null) {
-                        orderDto.setCustomerName(order.getCustomer().getFirstName() + " " + order.getCustomer().getLastName());
-                        
-                        // Create customer object for frontend compatibility
-                        CustomerDto customerDto = modelMapper.map(order.getCustomer(), CustomerDto.class);
-                        orderDto.setCustomer(customerDto);
-                    }
-                    
-                    // Manually populate seller information
-                    if (order.getSeller() != null) {
-                        orderDto.setSellerName(order.getSeller().getFirstName() + " " + order.getSeller().getLastName());
-                        orderDto.setShopName(order.getSeller().getShopName());
-                        
-                        // Create seller object for frontend compatibility
-                        SellerDto sellerDto = modelMapper.map(order.getSeller(), SellerDto.class);
-                        orderDto.setSeller(sellerDto);
-                    }
-                    
-                    // Manually populate order items with product information
-                    if (order.getOrderItems() != null && !order.getOrderItems().isEmpty()) {
-                        List<com.sunbeam.dto.OrderItemDto> orderItemDtos = order.getOrderItems().stream()
-                                .map(item -> {
-                                    com.sunbeam.dto.OrderItemDto itemDto = modelMapper.map(item, com.sunbeam.dto.OrderItemDto.class);
-                                    
-                                    // Populate product information
-                                    if (item.getProduct() != null) {
-                                        itemDto.setProductName(item.getProduct().getName());
-                                        itemDto.setProductImageUrl(item.getProduct().getImageUrl());
-                                        
-                                        // Create product object for frontend compatibility
-                                        ProductDto productDto = modelMapper.map(item.getProduct(), ProductDto.class);
-                                        itemDto.setProduct(productDto);
-                                    }
-                                    
-                                    // Calculate total price
-                                    if (item.getPricePerUnit() != null && item.getQuantity() != null) {
-                                        itemDto.setTotalPrice(item.getPricePerUnit().multiply(new BigDecimal(item.getQuantity())));
-                                    }
-                                    
-                                    return itemDto;
-                                })
-                                .collect(Collectors.toList());
-                        orderDto.setOrderItems(orderItemDtos);
-                    }
-                    
-                    return orderDto;
-                })
+                .map(orderMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDto> findByCustomerWithSellerAndItems(Integer customerId) { 
         return orderDao.findByCustomerWithSellerAndItems(customerId).stream()
-                .map(order -> {
-                    OrderDto orderDto = modelMapper.map(order, OrderDto.class);
-                    
-                    // Manually populate customer information
-                    if (order.getCustomer() != null) {
-                        orderDto.setCustomerName(order.getCustomer().getFirstName() + " " + order.getCustomer().getLastName());
-                        
-                        // Create customer object for frontend compatibility
-                        CustomerDto customerDto = modelMapper.map(order.getCustomer(), CustomerDto.class);
-                        orderDto.setCustomer(customerDto);
-                    }
-                    
-                    // Manually populate seller information
-                    if (order.getSeller() != null) {
-                        orderDto.setSellerName(order.getSeller().getFirstName() + " " + order.getSeller().getLastName());
-                        orderDto.setShopName(order.getSeller().getShopName());
-                        
-                        // Create seller object for frontend compatibility
-                        SellerDto sellerDto = modelMapper.map(order.getSeller(), SellerDto.class);
-                        orderDto.setSeller(sellerDto);
-                    }
-                    
-                    // Manually populate order items with product information
-                    if (order.getOrderItems() != null && !order.getOrderItems().isEmpty()) {
-                        List<com.sunbeam.dto.OrderItemDto> orderItemDtos = order.getOrderItems().stream()
-                                .map(item -> {
-                                    com.sunbeam.dto.OrderItemDto itemDto = modelMapper.map(item, com.sunbeam.dto.OrderItemDto.class);
-                                    
-                                    // Populate product information
-                                    if (item.getProduct() != null) {
-                                        itemDto.setProductName(item.getProduct().getName());
-                                        itemDto.setProductImageUrl(item.getProduct().getImageUrl());
-                                        
-                                        // Create product object for frontend compatibility
-                                        ProductDto productDto = modelMapper.map(item.getProduct(), ProductDto.class);
-                                        itemDto.setProduct(productDto);
-                                    }
-                                    
-                                    // Calculate total price
-                                    if (item.getPricePerUnit() != null && item.getQuantity() != null) {
-                                        itemDto.setTotalPrice(item.getPricePerUnit().multiply(new BigDecimal(item.getQuantity())));
-                                    }
-                                    
-                                    return itemDto;
-                                })
-                                .collect(Collectors.toList());
-                        orderDto.setOrderItems(orderItemDtos);
-                    }
-                    
-                    return orderDto;
-                })
+                .map(orderMapper::toDto)
                 .collect(Collectors.toList());
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryDto> findSellerOrderSummaries(Integer sellerId, int page, int size) {
+        return orderDao.findSummariesBySeller(sellerId, summaryPage(page, size));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryDto> findCustomerOrderSummaries(Integer customerId, int page, int size) {
+        return orderDao.findSummariesByCustomer(customerId, summaryPage(page, size));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderStatusTotalDto> findSellerStatusTotals(Integer sellerId) {
+        return orderDao.findStatusTotalsBySeller(sellerId);
+    }
+    
+    // newest first, size clamped so one request cannot pull a seller's whole history
+    private Pageable summaryPage(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SUMMARY_PAGE_SIZE),
+                Sort.by(Sort.Order.desc("orderDate"), Sort.Order.desc("orderId")));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSliceDto findSellerFeed(Integer sellerId, LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        int pageSize = feedPageSize(limit);
+        FeedPosition after = decodeFeedCursor(cursor);
+        List<Integer> ids = orderDao.findSellerFeedIds(sellerId, from != null ? from : FEED_START, to != null ? to : FEED_END,
+                after.orderDate(), after.orderId(), PageRequest.of(0, pageSize + 1));
+        return loadFeedPage(ids, pageSize);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSliceDto findCustomerFeed(Integer customerId, LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        int pageSize = feedPageSize(limit);
+        FeedPosition after = decodeFeedCursor(cursor);
+        List<Integer> ids = orderDao.findCustomerFeedIds(customerId, from != null ? from : FEED_START, to != null ? to : FEED_END,
+                after.orderDate(), after.orderId(), PageRequest.of(0, pageSize + 1));
+        return loadFeedPage(ids, pageSize);
+    }
+    
+    private static int feedPageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_FEED_PAGE_SIZE);
+    }
+    
+    // phase 2: fetch only the page's orders with their items, then restore feed order
+    private OrderSliceDto loadFeedPage(List<Integer> ids, int pageSize) {
+        boolean hasMore = ids.size() > pageSize;
+        List<Integer> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return new OrderSliceDto(new ArrayList<>(), null);
+        }
+        
+        List<Order> orders = orderDao.findWithDetailsByIdIn(pageIds);
+        orders.sort(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getOrderId).reversed());
+        List<OrderDto> content = orders.stream().map(orderMapper::toDto).collect(Collectors.toList());
+        
+        Order last = orders.get(orders.size() - 1);
+        return new OrderSliceDto(content, hasMore ? encodeFeedCursor(last.getOrderDate(), last.getOrderId()) : null);
+    }
+    
+    private record FeedPosition(LocalDateTime orderDate, Integer orderId) {
+    }
+    
+    // Cursor is the (order date, order id) of the last order seen, base64url encoded so clients treat it as opaque
+    private static String encodeFeedCursor(LocalDateTime orderDate, Integer orderId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((FEED_CURSOR_PREFIX + orderDate + "|" + orderId).getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private static FeedPosition decodeFeedCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new FeedPosition(FEED_END, Integer.MAX_VALUE);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf('|');
+            if (!decoded.startsWith(FEED_CURSOR_PREFIX) || separator < 0) {
+                throw new InvalidInputException("Invalid page cursor");
+            }
+            return new FeedPosition(LocalDateTime.parse(decoded.substring(FEED_CURSOR_PREFIX.length(), separator)),
+                    Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidInputException("Invalid page cursor");
+        }
+    }
 }
\ No newline at end of file
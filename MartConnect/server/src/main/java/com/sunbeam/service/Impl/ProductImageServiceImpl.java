@@ -28,12 +28,14 @@ public class ProductImageServiceImpl implements ProductImageService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Optional<ProductImage> findById(Integer id) {
 		// TODO Auto-generated method stub
 		return Optional.empty();
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<ProductImage> findAll() {
 		// TODO Auto-generated method stub
 		return null;
@@ -46,12 +48,14 @@ public class ProductImageServiceImpl implements ProductImageService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public boolean existsById(Integer id) {
 		// TODO Auto-generated method stub
 		return false;
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public long count() {
 		// TODO Auto-generated method stub
 		return 0;
@@ -1,32 +1,62 @@
 package com.sunbeam.service.Impl;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sunbeam.cache.ProductCache;
+import com.sunbeam.custom_exceptions.InvalidInputException;
 import com.sunbeam.dao.ProductDao;
+import com.sunbeam.dao.ProductSpecifications;
 import com.sunbeam.dao.SellerDao;
 import com.sunbeam.dto.ProductDto;
+import com.sunbeam.dto.ProductSliceDto;
 import com.sunbeam.dto.CategoryDto;
 import com.sunbeam.entities.Product;
 import com.sunbeam.entities.Category;
 import com.sunbeam.entities.Seller;
+import com.sunbeam.events.ProductChangedEvent;
+import com.sunbeam.search.ProductSearchIndex;
+import com.sunbeam.mapper.CategoryMapper;
+import com.sunbeam.mapper.ProductMapper;
 import com.sunbeam.service.CategoryService;
+import com.sunbeam.service.CategoryStatsService;
+import com.sunbeam.service.CategoryStatsService.Contribution;
 import com.sunbeam.service.ProductService;
+import com.sunbeam.service.StockAlertService;
 
 @Service
 @Transactional
 public class ProductServiceImpl implements ProductService {
     
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+    
+    public static final int MAX_FULL_TEXT_RESULTS = 100;
+    
+    public static final int MAX_PAGE_SIZE = 200;
+    
+    private static final String CURSOR_PREFIX = "p:";
+    
     @Autowired
     private ProductDao productDao;
     
@@ -37,18 +67,36 @@ public class ProductServiceImpl implements ProductService {
     private CategoryService categoryService;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private CategoryMapper categoryMapper;
+    
+    @Autowired
+    private ProductMapper productMapper;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ProductSearchIndex searchIndex;
+    
+    @Autowired
+    private ProductCache productCache;
+    
+    @Autowired
+    private CategoryStatsService categoryStatsService;
+    
+    @Autowired
+    private StockAlertService stockAlertService;
     
     // Core: Add product with category management
     @Override
     public ProductDto addProductWithCategory(ProductDto productDto) {
-        Product product = modelMapper.map(productDto, Product.class);
+        Product product = productMapper.toEntity(productDto);
         
         // Handle category by ID
         if (productDto.getCategoryId() != null) {
             Optional<CategoryDto> existingCategory = categoryService.findById(productDto.getCategoryId());
             if (existingCategory.isPresent()) {
-                Category categoryEntity = modelMapper.map(existingCategory.get(), Category.class);
+                Category categoryEntity = categoryMapper.toEntity(existingCategory.get());
                 product.setCategory(categoryEntity);
             } else {
                 throw new RuntimeException("Category not found with ID: " + productDto.getCategoryId());
@@ -59,7 +107,7 @@ public class ProductServiceImpl implements ProductService {
             Optional<CategoryDto> existingCategory = categoryService.findByName(categoryName);
             
             if (existingCategory.isPresent()) {
-                Category categoryEntity = modelMapper.map(existingCategory.get(), Category.class);
+                Category categoryEntity = categoryMapper.toEntity(existingCategory.get());
                 product.setCategory(categoryEntity);
             } else {
                 // Create new category and save it first
@@ -67,7 +115,7 @@ public class ProductServiceImpl implements ProductService {
                 newCategoryDto.setName(categoryName);
                 newCategoryDto.setDescription(categoryName + " products");
                 CategoryDto savedCategoryDto = categoryService.addCategory(newCategoryDto);
-                Category categoryEntity = modelMapper.map(savedCategoryDto, Category.class);
+                Category categoryEntity = categoryMapper.toEntity(savedCategoryDto);
                 product.setCategory(categoryEntity);
             }
         }
@@ -92,19 +140,21 @@ public class ProductServiceImpl implements ProductService {
         
         product.setCreatedAt(LocalDateTime.now());
         Product savedProduct = productDao.save(product);
-        return modelMapper.map(savedProduct, ProductDto.class);
+        categoryStatsService.recordChange(null, Contribution.of(savedProduct));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        return productMapper.toDto(savedProduct);
     }
     
     // Core: Add product with validation
     @Override
     public ProductDto addProduct(ProductDto productDto) {
-        Product product = modelMapper.map(productDto, Product.class);
+        Product product = productMapper.toEntity(productDto);
         
         // Handle category by ID
         if (productDto.getCategoryId() != null) {
             Optional<CategoryDto> existingCategory = categoryService.findById(productDto.getCategoryId());
             if (existingCategory.isPresent()) {
-                Category categoryEntity = modelMapper.map(existingCategory.get(), Category.class);
+                Category categoryEntity = categoryMapper.toEntity(existingCategory.get());
                 product.setCategory(categoryEntity);
             } else {
                 throw new RuntimeException("Category not found with ID: " + productDto.getCategoryId());
@@ -130,7 +180,9 @@ public class ProductServiceImpl implements ProductService {
         
         product.setCreatedAt(LocalDateTime.now());
         Product savedProduct = productDao.save(product);
-        return modelMapper.map(savedProduct, ProductDto.class);
+        categoryStatsService.recordChange(null, Contribution.of(savedProduct));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        return productMapper.toDto(savedProduct);
     }
     
     // Core: Update product with category management
@@ -142,7 +194,9 @@ public class ProductServiceImpl implements ProductService {
         }
         
         Product existing = existingProduct.get();
-        Product product = modelMapper.map(productDto, Product.class);
+        Contribution before = Contribution.of(existing);
+        int stockBefore = existing.getStock();
+        Product product = productMapper.toEntity(productDto);
         
         // Handle category if it's sent as a string
         if (product.getCategory() != null && product.getCategory().getName() != null) {
@@ -150,7 +204,7 @@ public class ProductServiceImpl implements ProductService {
             Optional<CategoryDto> existingCategory = categoryService.findByName(categoryName);
             
             if (existingCategory.isPresent()) {
-                Category categoryEntity = modelMapper.map(existingCategory.get(), Category.class);
+                Category categoryEntity = categoryMapper.toEntity(existingCategory.get());
                 existing.setCategory(categoryEntity);
             } else {
                 // Create new category and save it first
@@ -158,7 +212,7 @@ public class ProductServiceImpl implements ProductService {
                 newCategoryDto.setName(categoryName);
                 newCategoryDto.setDescription(categoryName + " products");
                 CategoryDto savedCategoryDto = categoryService.addCategory(newCategoryDto);
-                Category categoryEntity = modelMapper.map(savedCategoryDto, Category.class);
+                Category categoryEntity = categoryMapper.toEntity(savedCategoryDto);
                 existing.setCategory(categoryEntity);
             }
         }
@@ -173,7 +227,10 @@ public class ProductServiceImpl implements ProductService {
         
         existing.setUpdatedAt(LocalDateTime.now());
         Product updatedProduct = productDao.save(existing);
-        return modelMapper.map(updatedProduct, ProductDto.class);
+        categoryStatsService.recordChange(before, Contribution.of(updatedProduct));
+        stockAlertService.recordStockChange(updatedProduct, stockBefore);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(updatedProduct));
+        return productMapper.toDto(updatedProduct);
     }
     
     // Core: Update product stock
@@ -185,6 +242,8 @@ public class ProductServiceImpl implements ProductService {
         }
         
         Product product = productOpt.get();
+        Contribution before = Contribution.of(product);
+        int stockBefore = product.getStock();
         if (newStock < 0) {
             throw new RuntimeException("Stock cannot be negative");
         }
@@ -192,7 +251,10 @@ public class ProductServiceImpl implements ProductService {
         product.setStock(newStock);
         product.setUpdatedAt(LocalDateTime.now());
         Product updatedProduct = productDao.save(product);
-        return modelMapper.map(updatedProduct, ProductDto.class);
+        categoryStatsService.recordChange(before, Contribution.of(updatedProduct));
+        stockAlertService.recordStockChange(updatedProduct, stockBefore);
+        eventPublisher.publishEvent(ProductChangedEvent.attributesChanged(productId));
+        return productMapper.toDto(updatedProduct);
     }
     
     // Core: Update product price
@@ -204,6 +266,7 @@ public class ProductServiceImpl implements ProductService {
         }
         
         Product product = productOpt.get();
+        Contribution before = Contribution.of(product);
         if (newPrice.compareTo(BigDecimal.ZERO) <= 0) {
             throw new RuntimeException("Price must be greater than zero");
         }
@@ -211,7 +274,9 @@ public class ProductServiceImpl implements ProductService {
         product.setPrice(newPrice);
         product.setUpdatedAt(LocalDateTime.now());
         Product updatedProduct = productDao.save(product);
-        return modelMapper.map(updatedProduct, ProductDto.class);
+        categoryStatsService.recordChange(before, Contribution.of(updatedProduct));
+        eventPublisher.publishEvent(ProductChangedEvent.attributesChanged(productId));
+        return productMapper.toDto(updatedProduct);
     }
     
     // Core: Update product
@@ -223,7 +288,9 @@ public class ProductServiceImpl implements ProductService {
         }
         
         Product existing = existingProduct.get();
-        Product product = modelMapper.map(productDto, Product.class);
+        Contribution before = Contribution.of(existing);
+        int stockBefore = existing.getStock();
+        Product product = productMapper.toEntity(productDto);
         
         if (product.getName() != null) existing.setName(product.getName());
         if (product.getDescription() != null) existing.setDescription(product.getDescription());
@@ -234,19 +301,22 @@ public class ProductServiceImpl implements ProductService {
         
         existing.setUpdatedAt(LocalDateTime.now());
         Product updatedProduct = productDao.save(existing);
-        return modelMapper.map(updatedProduct, ProductDto.class);
+        categoryStatsService.recordChange(before, Contribution.of(updatedProduct));
+        stockAlertService.recordStockChange(updatedProduct, stockBefore);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(updatedProduct));
+        return productMapper.toDto(updatedProduct);
     }
     
     // Essential CRUD methods
     @Override
     public ProductDto save(ProductDto productDto) {
-        Product product = modelMapper.map(productDto, Product.class);
+        Product product = productMapper.toEntity(productDto);
         
         // Handle category by ID
         if (productDto.getCategoryId() != null) {
             Optional<CategoryDto> existingCategory = categoryService.findById(productDto.getCategoryId());
             if (existingCategory.isPresent()) {
-                Category categoryEntity = modelMapper.map(existingCategory.get(), Category.class);
+                Category categoryEntity = categoryMapper.toEntity(existingCategory.get());
                 product.setCategory(categoryEntity);
             } else {
                 throw new RuntimeException("Category not found with ID: " + productDto.getCategoryId());
@@ -269,139 +339,165 @@ public class ProductServiceImpl implements ProductService {
         if (product.getStock() < 0) {
             throw new RuntimeException("Product stock cannot be negative");
         }
+        // a dto with an id replaces that product, so take back what the old version counted
+        Contribution before = productDto.getProductId() == null ? null
+                : productDao.findById(productDto.getProductId()).map(Contribution::of).orElse(null);
         product.setCreatedAt(LocalDateTime.now());
         Product savedProduct = productDao.save(product);
-        return modelMapper.map(savedProduct, ProductDto.class);
+        categoryStatsService.recordChange(before, Contribution.of(savedProduct));
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        return productMapper.toDto(savedProduct);
     }
     
+    // Read-through cache; a hit never touches the connection pool
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<ProductDto> findById(Integer id) { 
-        return productDao.findById(id).map(product -> modelMapper.map(product, ProductDto.class)); 
+        return productCache.get(id, () -> productDao.findWithCategoryByProductId(id).map(productMapper::toDto)); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> findAll() { 
-        return productDao.findAll().stream().map(product -> modelMapper.map(product, ProductDto.class)).collect(Collectors.toList()); 
+        return productDao.findAll().stream().map(productMapper::toDto).collect(Collectors.toList()); 
     }
     
     @Override
-    public void deleteById(Integer id) { productDao.deleteById(id); }
+    @Transactional(readOnly = true)
+    public ProductSliceDto findPage(String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // read one extra row to learn whether another page exists
+        List<ProductDto> rows = productDao.findDtoPageAfter(decodeCursor(cursor), PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new ProductSliceDto(rows, null);
+        }
+        List<ProductDto> content = rows.subList(0, pageSize);
+        return new ProductSliceDto(new ArrayList<>(content), encodeCursor(content.get(pageSize - 1).getProductId()));
+    }
     
     @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ProductDto> consumer) {
+        try (Stream<ProductDto> products = productDao.streamAllDtos()) {
+            products.forEach(consumer);
+        }
+    }
+    
+    // Cursor is the last product id seen, base64url encoded so clients treat it as opaque
+    private static String encodeCursor(Integer lastProductId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastProductId).getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private static Integer decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidInputException("Invalid page cursor");
+            }
+            return Integer.valueOf(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid page cursor");
+        }
+    }
+    
+    @Override
+    public void deleteById(Integer id) {
+        Contribution before = productDao.findById(id).map(Contribution::of).orElse(null);
+        productDao.deleteById(id);
+        categoryStatsService.recordChange(before, null);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Integer id) { return productDao.existsById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public long count() { return productDao.count(); }
     
     // Essential search methods
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> findByName(String name) { 
-        return productDao.findByNameContainingIgnoreCase(name).stream().map(product -> modelMapper.map(product, ProductDto.class)).collect(Collectors.toList()); 
+        return productDao.findByNameContainingIgnoreCase(name).stream().map(productMapper::toDto).collect(Collectors.toList()); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> findByCategory(String categoryName) { 
-        return productDao.findByCategory_NameContainingIgnoreCase(categoryName).stream().map(product -> modelMapper.map(product, ProductDto.class)).collect(Collectors.toList()); 
+        return productDao.findByCategory_NameContainingIgnoreCase(categoryName).stream().map(productMapper::toDto).collect(Collectors.toList()); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> findBySeller(Integer sellerId) { 
-        return productDao.findBySeller_SellerId(sellerId).stream().map(product -> modelMapper.map(product, ProductDto.class)).collect(Collectors.toList()); 
+        return productDao.findBySeller_SellerId(sellerId).stream().map(productMapper::toDto).collect(Collectors.toList()); 
     }
        
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> findByNameOrDescriptionContaining(String searchTerm) { 
-        return productDao.findByNameOrDescriptionContaining(searchTerm).stream().map(product -> modelMapper.map(product, ProductDto.class)).collect(Collectors.toList()); 
+        return productDao.findByNameOrDescriptionContaining(searchTerm).stream().map(productMapper::toDto).collect(Collectors.toList()); 
     }
     
     @Override
-    public List<ProductDto> searchProductsByNameAndCategory(String name, String category) {
-        // Start with all products
-        List<Product> products = productDao.findAll();
-        
-        // Filter by name if provided
-        if (name != null && !name.trim().isEmpty()) {
-            products = products.stream()
-                .filter(p -> p.getName().toLowerCase().contains(name.toLowerCase()) ||
-                           (p.getDescription() != null && p.getDescription().toLowerCase().contains(name.toLowerCase())))
-                .toList();
+    @Transactional(readOnly = true)
+    public List<ProductDto> fullTextSearch(String query, int limit) {
+        List<Integer> rankedIds = searchIndex.search(query, Math.min(Math.max(limit, 1), MAX_FULL_TEXT_RESULTS));
+        if (rankedIds.isEmpty()) {
+            return List.of();
         }
-        
-        // Filter by category if provided
-        if (category != null && !category.trim().isEmpty()) {
-            products = products.stream()
-                .filter(p -> p.getCategory() != null && 
-                           p.getCategory().getName().toLowerCase().contains(category.toLowerCase()))
-                .toList();
-        }
-        
-        return products.stream().map(product -> modelMapper.map(product, ProductDto.class)).collect(Collectors.toList());
+        // one IN query for the page, then restore the index ranking
+        Map<Integer, Product> productsById = productDao.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        return rankedIds.stream()
+                .map(productsById::get)
+                .filter(product -> product != null)
+                .map(productMapper::toDto)
+                .collect(Collectors.toList());
     }
     
     @Override
-    public List<ProductDto> searchProducts(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, Integer minStock, String unit) {
-        // Start with all products
-        List<Product> products = productDao.findAll();
-        
-        // Filter by name if provided
-        if (name != null && !name.trim().isEmpty()) {
-            products = products.stream()
-                .filter(p -> p.getName().toLowerCase().contains(name.toLowerCase()) ||
-                           (p.getDescription() != null && p.getDescription().toLowerCase().contains(name.toLowerCase())))
-                .toList();
-        }
-        
-        // Filter by category if provided
-        if (category != null && !category.trim().isEmpty()) {
-            products = products.stream()
-                .filter(p -> p.getCategory() != null && 
-                           p.getCategory().getName().toLowerCase().contains(category.toLowerCase()))
-                .toList();
-        }
-        
-        // Filter by price range if provided
-        if (minPrice != null) {
-            products = products.stream()
-                .filter(p -> p.getPrice().compareTo(minPrice) >= 0)
-                .toList();
-        }
-        
-        if (maxPrice != null) {
-            products = products.stream()
-                .filter(p -> p.getPrice().compareTo(maxPrice) <= 0)
-                .toList();
-        }
-        
-        // Filter by minimum stock if provided
-        if (minStock != null) {
-            products = products.stream()
-                .filter(p -> p.getStock() >= minStock)
-                .toList();
-        }
-        
-        // Filter by unit if provided
-        if (unit != null && !unit.trim().isEmpty()) {
-            products = products.stream()
-                .filter(p -> p.getUnit().toLowerCase().contains(unit.toLowerCase()))
-                .toList();
-        }
-        
-        return products.stream().map(product -> modelMapper.map(product, ProductDto.class)).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<ProductDto> searchProducts(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, Integer minStock, String unit, Pageable pageable) {
+        // Clamp page size so a single request can never pull the whole catalog
+        Pageable bounded = PageRequest.of(pageable.getPageNumber(),
+                Math.min(Math.max(pageable.getPageSize(), 1), MAX_SEARCH_PAGE_SIZE),
+                pageable.getSortOr(Sort.by("productId")));
+        return productDao.findAll(searchSpecification(name, category, minPrice, maxPrice, minStock, unit), bounded)
+                .map(productMapper::toDto);
+    }
+    
+    // All search filters are pushed into the WHERE clause; absent filters are skipped
+    private Specification<Product> searchSpecification(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, Integer minStock, String unit) {
+        return Specification.allOf(
+                ProductSpecifications.nameOrDescriptionContains(name),
+                ProductSpecifications.categoryNameContains(category),
+                ProductSpecifications.priceAtLeast(minPrice),
+                ProductSpecifications.priceAtMost(maxPrice),
+                ProductSpecifications.stockAtLeast(minStock),
+                ProductSpecifications.unitContains(unit));
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> getProductsWithLowStockBySeller(Integer sellerId, Integer lowStockThreshold) {
-        return productDao.findBySeller_SellerId(sellerId).stream()
-            .filter(p -> p.getStock() <= lowStockThreshold)
-            .map(product -> modelMapper.map(product, ProductDto.class))
+        int threshold = lowStockThreshold != null ? lowStockThreshold : stockAlertService.getLowStockThreshold();
+        return productDao.findLowStockBySeller(sellerId, threshold).stream()
+            .map(productMapper::toDto)
             .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDto> getOutOfStockProductsBySeller(Integer sellerId) {
-        return productDao.findBySeller_SellerId(sellerId).stream()
-            .filter(p -> p.getStock() == 0)
-            .map(product -> modelMapper.map(product, ProductDto.class))
+        return productDao.findBySellerAndStock(sellerId, 0).stream()
+            .map(productMapper::toDto)
             .collect(Collectors.toList());
     }
 
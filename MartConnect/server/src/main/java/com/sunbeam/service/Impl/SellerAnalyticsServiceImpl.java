@@ -0,0 +1,235 @@
+package com.sunbeam.service.Impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sunbeam.custom_exceptions.InvalidInputException;
+import com.sunbeam.custom_exceptions.ResourceNotFoundException;
+import com.sunbeam.dao.OrderDao;
+import com.sunbeam.dao.SellerDao;
+import com.sunbeam.dao.SellerProductSalesRollupDao;
+import com.sunbeam.dao.SellerSalesRollupDao;
+import com.sunbeam.dto.OrderSalesLine;
+import com.sunbeam.dto.SellerAnalyticsDto;
+import com.sunbeam.dto.SellerSalesBucketDto;
+import com.sunbeam.dto.SellerTopProductDto;
+import com.sunbeam.entities.Order;
+import com.sunbeam.entities.OrderItem;
+import com.sunbeam.entities.SellerProductSalesRollup;
+import com.sunbeam.entities.SellerSalesRollup;
+import com.sunbeam.entities.SellerSalesRollup.Granularity;
+import com.sunbeam.service.SellerAnalyticsService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rollups are incremented in the transaction that saves the order, so they commit or roll back
+ * with it and a dashboard read touches one row per hour / day instead of every order.
+ * The backfill only rebuilds days that are over - orders are stamped with the current time,
+ * so a finished day never receives a live increment while it is being recomputed.
+ */
+@Service
+@Transactional
+@Slf4j
+public class SellerAnalyticsServiceImpl implements SellerAnalyticsService {
+    
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_HOURLY_DAYS = 31;
+    private static final int MAX_DAILY_DAYS = 366;
+    private static final int MAX_TOP = 50;
+    
+    @Autowired
+    private SellerSalesRollupDao sellerSalesRollupDao;
+    
+    @Autowired
+    private SellerProductSalesRollupDao sellerProductSalesRollupDao;
+    
+    @Autowired
+    private OrderDao orderDao;
+    
+    @Autowired
+    private SellerDao sellerDao;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${seller.analytics.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+    
+    @Value("${seller.analytics.backfill-chunk-size:500}")
+    private int chunkSize;
+    
+    // first start with the rollup tables: build them from the order history
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onApplicationReady() {
+        if (backfillOnStartup && sellerSalesRollupDao.count() == 0) {
+            backfill(null, null, null);
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrder(Order order) {
+        List<OrderSalesLine> lines = new ArrayList<>();
+        Integer sellerId = order.getSeller().getSellerId();
+        if (order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            lines.add(new OrderSalesLine(order.getOrderId(), sellerId, order.getOrderDate(), order.getTotalAmount(),
+                    null, null, null));
+        } else {
+            for (OrderItem item : order.getOrderItems()) {
+                lines.add(new OrderSalesLine(order.getOrderId(), sellerId, order.getOrderDate(), order.getTotalAmount(),
+                        item.getProduct().getProductId(), item.getQuantity(), item.getPricePerUnit()));
+            }
+        }
+        addLines(lines, LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public SellerAnalyticsDto getAnalytics(Integer sellerId, LocalDate from, LocalDate to, String granularity, int top) {
+        Granularity bucketSize;
+        try {
+            bucketSize = Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Granularity must be day or hour");
+        }
+        if (top < 0 || top > MAX_TOP) {
+            throw new InvalidInputException("top must be between 0 and " + MAX_TOP);
+        }
+        LocalDate lastDay = to != null ? to : LocalDate.now();
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(DEFAULT_DAYS - 1);
+        if (firstDay.isAfter(lastDay)) {
+            throw new InvalidInputException("from must not be after to");
+        }
+        long days = ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+        int maxDays = bucketSize == Granularity.HOUR ? MAX_HOURLY_DAYS : MAX_DAILY_DAYS;
+        if (days > maxDays) {
+            throw new InvalidInputException("At most " + maxDays + " days per " + granularity + " request");
+        }
+        if (!sellerDao.existsById(sellerId)) {
+            throw new ResourceNotFoundException("Seller not found with ID: " + sellerId);
+        }
+        
+        LocalDate end = lastDay.plusDays(1);
+        List<SellerSalesBucketDto> buckets = sellerSalesRollupDao.findBuckets(sellerId, bucketSize,
+                firstDay.atStartOfDay(), end.atStartOfDay());
+        int orderCount = 0;
+        int unitsSold = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (SellerSalesBucketDto bucket : buckets) {
+            orderCount += bucket.getOrderCount();
+            unitsSold += bucket.getUnitsSold();
+            revenue = revenue.add(bucket.getRevenue());
+        }
+        List<SellerTopProductDto> topProducts = top == 0 ? List.of()
+                : sellerProductSalesRollupDao.findTopProducts(sellerId, firstDay, end, PageRequest.of(0, top));
+        return new SellerAnalyticsDto(sellerId, firstDay, lastDay, bucketSize.name().toLowerCase(Locale.ROOT),
+                orderCount, revenue, unitsSold, buckets, topProducts);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isOwnAnalytics(Integer sellerId, String email) {
+        return sellerDao.findByEmail(email).map(seller -> seller.getSellerId().equals(sellerId)).orElse(false);
+    }
+    
+    // each day commits on its own, so a long backfill neither holds one huge transaction nor loses finished days
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfill(Integer sellerId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate end = to == null || to.isAfter(today) ? today : to;
+        LocalDate start = from;
+        if (start == null) {
+            LocalDateTime firstOrder = sellerId == null ? orderDao.findFirstOrderDate()
+                    : orderDao.findFirstOrderDateOfSeller(sellerId);
+            if (firstOrder == null) {
+                return 0;
+            }
+            start = firstOrder.toLocalDate();
+        }
+        int orders = 0;
+        for (LocalDate day = start; day.isBefore(end); day = day.plusDays(1)) {
+            LocalDate current = day;
+            orders += transactionTemplate.execute(status -> backfillDay(sellerId, current));
+        }
+        log.info("Seller sales rollups of {} rebuilt for {} to {} from {} orders",
+                sellerId == null ? "all sellers" : "seller " + sellerId, start, end, orders);
+        return orders;
+    }
+    
+    private int backfillDay(Integer sellerId, LocalDate day) {
+        sellerSalesRollupDao.deleteDays(sellerId, day, day.plusDays(1));
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+        int orders = 0;
+        int afterId = 0;
+        List<Integer> ids;
+        do {
+            ids = sellerId == null
+                    ? orderDao.findIdsPlacedBetween(dayStart, dayEnd, afterId, PageRequest.of(0, chunkSize))
+                    : orderDao.findIdsOfSellerPlacedBetween(sellerId, dayStart, dayEnd, afterId, PageRequest.of(0, chunkSize));
+            if (!ids.isEmpty()) {
+                addLines(orderDao.findSalesLinesByIdIn(ids), now);
+                orders += ids.size();
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == chunkSize);
+        return orders;
+    }
+    
+    // lines arrive grouped by order; the order total and count go in once per order, units once per line
+    private void addLines(List<OrderSalesLine> lines, LocalDateTime now) {
+        Map<SellerSalesRollup.Key, SellerSalesRollup> buckets = new HashMap<>();
+        Map<SellerProductSalesRollup.Key, SellerProductSalesRollup> productDays = new HashMap<>();
+        Integer previousOrderId = null;
+        for (OrderSalesLine line : lines) {
+            boolean firstLineOfOrder = !line.getOrderId().equals(previousOrderId);
+            previousOrderId = line.getOrderId();
+            int units = line.getQuantity() != null ? line.getQuantity() : 0;
+            for (Granularity granularity : Granularity.values()) {
+                LocalDateTime bucketStart = granularity.bucketOf(line.getOrderDate());
+                SellerSalesRollup bucket = buckets.computeIfAbsent(
+                        new SellerSalesRollup.Key(line.getSellerId(), granularity, bucketStart),
+                        key -> new SellerSalesRollup(line.getSellerId(), granularity, bucketStart, 0, BigDecimal.ZERO, 0, null));
+                if (firstLineOfOrder) {
+                    bucket.setOrderCount(bucket.getOrderCount() + 1);
+                    if (line.getOrderTotal() != null) {
+                        bucket.setRevenue(bucket.getRevenue().add(line.getOrderTotal()));
+                    }
+                }
+                bucket.setUnitsSold(bucket.getUnitsSold() + units);
+            }
+            if (line.getProductId() != null) {
+                LocalDate salesDate = line.getOrderDate().toLocalDate();
+                SellerProductSalesRollup productDay = productDays.computeIfAbsent(
+                        new SellerProductSalesRollup.Key(line.getSellerId(), salesDate, line.getProductId()),
+                        key -> new SellerProductSalesRollup(line.getSellerId(), salesDate, line.getProductId(), 0, BigDecimal.ZERO, null));
+                productDay.setUnitsSold(productDay.getUnitsSold() + units);
+                if (line.getPricePerUnit() != null) {
+                    productDay.setRevenue(productDay.getRevenue().add(line.getPricePerUnit().multiply(BigDecimal.valueOf(units))));
+                }
+            }
+        }
+        sellerSalesRollupDao.addSales(buckets.values(), productDays.values(), now);
+    }
+}
@@ -5,7 +5,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -16,6 +15,7 @@ import com.sunbeam.dao.ProductDao;
 import com.sunbeam.dao.SellerDao;
 import com.sunbeam.dto.SellerDto;
 import com.sunbeam.entities.Seller;
+import com.sunbeam.mapper.UserMapper;
 import com.sunbeam.service.SellerService;
 
 @Service
@@ -35,41 +35,47 @@ public class SellerServiceImpl implements SellerService {
     private PasswordEncoder passwordEncoder;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
     
     // Essential CRUD methods
     @Override
     public SellerDto save(SellerDto sellerDto) { 
-        Seller seller = modelMapper.map(sellerDto, Seller.class);
+        Seller seller = userMapper.toEntity(sellerDto);
         Seller savedSeller = sellerDao.save(seller);
-        return modelMapper.map(savedSeller, SellerDto.class);
+        return userMapper.toDto(savedSeller);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<SellerDto> findById(Integer id) { 
-        return sellerDao.findById(id).map(seller -> modelMapper.map(seller, SellerDto.class)); 
+        return sellerDao.findById(id).map(userMapper::toDto); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<SellerDto> findAll() { 
-        return sellerDao.findAll().stream().map(seller -> modelMapper.map(seller, SellerDto.class)).collect(Collectors.toList()); 
+        return sellerDao.findAll().stream().map(userMapper::toDto).collect(Collectors.toList()); 
     }
     
     @Override
     public void deleteById(Integer id) { sellerDao.deleteById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Integer id) { return sellerDao.existsById(id); }
     
     @Override
+    @Transactional(readOnly = true)
     public long count() { return sellerDao.count(); }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<SellerDto> findByEmail(String email) { 
-        return sellerDao.findByEmail(email).map(seller -> modelMapper.map(seller, SellerDto.class)); 
+        return sellerDao.findByEmail(email).map(userMapper::toDto); 
     }
     
     @Override
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) { return sellerDao.existsByEmail(email); }
     
     @Override
@@ -89,7 +95,7 @@ public class SellerServiceImpl implements SellerService {
             throw new RuntimeException("Seller with shop name " + sellerDto.getShopName() + " already exists");
         }
         
-        Seller seller = modelMapper.map(sellerDto, Seller.class);
+        Seller seller = userMapper.toEntity(sellerDto);
         
         // Encode password
         seller.setPassword(passwordEncoder.encode(sellerDto.getPassword()));
@@ -99,7 +105,7 @@ public class SellerServiceImpl implements SellerService {
         seller.setUpdatedAt(LocalDateTime.now());
         
         Seller savedSeller = sellerDao.save(seller);
-        return modelMapper.map(savedSeller, SellerDto.class);
+        return userMapper.toDto(savedSeller);
     }
     
     @Override
@@ -116,6 +122,6 @@ public class SellerServiceImpl implements SellerService {
             throw new RuntimeException("Invalid password for seller: " + email);
         }
         
-        return modelMapper.map(seller, SellerDto.class);
+        return userMapper.toDto(seller);
     }
 } 
\ No newline at end of file
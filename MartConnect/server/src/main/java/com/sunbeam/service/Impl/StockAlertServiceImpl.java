@@ -0,0 +1,147 @@
+package com.sunbeam.service.Impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sunbeam.dao.ProductDao;
+import com.sunbeam.dao.SellerDao;
+import com.sunbeam.events.LowStockEvent;
+import com.sunbeam.entities.Product;
+import com.sunbeam.service.StockAlertService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Crossings are detected where stock is written, inside that transaction, and only reach
+ * the seller's open streams once it commits - a rolled back checkout never alerts.
+ * Streams live in this instance only; a seller connected to another node sees that node's alerts.
+ * Events are written to the streams on Boot's task executor, never on the committing request thread.
+ */
+@Service
+@Slf4j
+public class StockAlertServiceImpl implements StockAlertService {
+    
+    @Autowired
+    private ProductDao productDao;
+    
+    @Autowired
+    private SellerDao sellerDao;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+    
+    @Value("${product.stock.low-threshold:10}")
+    private int lowStockThreshold;
+    
+    @Value("${product.stock.alerts.stream-timeout:PT30M}")
+    private Duration streamTimeout;
+    
+    private final Map<Integer, List<SseEmitter>> emittersBySeller = new ConcurrentHashMap<>();
+    
+    @Override
+    public int getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStockChange(Product product, int stockBefore) {
+        LowStockEvent.Level level = crossing(stockBefore, product.getStock());
+        if (level != null) {
+            eventPublisher.publishEvent(new LowStockEvent(product.getProductId(), product.getSeller().getSellerId(),
+                    product.getName(), product.getStock(), lowStockThreshold, level));
+        }
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStockTaken(Map<Integer, Integer> quantitiesByProduct) {
+        if (quantitiesByProduct.isEmpty()) {
+            return;
+        }
+        // only products now at or below the threshold come back, usually none
+        for (Object[] row : productDao.findStockLevelsAtOrBelow(quantitiesByProduct.keySet(), lowStockThreshold)) {
+            Integer productId = (Integer) row[0];
+            int stock = ((Number) row[3]).intValue();
+            LowStockEvent.Level level = crossing(stock + quantitiesByProduct.get(productId), stock);
+            if (level != null) {
+                eventPublisher.publishEvent(new LowStockEvent(productId, (Integer) row[1], (String) row[2],
+                        stock, lowStockThreshold, level));
+            }
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onLowStock(LowStockEvent event) {
+        List<SseEmitter> emitters = emittersBySeller.get(event.getSellerId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        // a slow client blocks inside send - keep that off the thread whose request just committed
+        try {
+            taskExecutor.execute(() -> send(event, emitters));
+        } catch (TaskRejectedException e) {
+            log.warn("Stock alert for product {} not sent: {}", event.getProductId(), e.getMessage());
+        }
+    }
+    
+    private void send(LowStockEvent event, List<SseEmitter> emitters) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("low-stock").data(event));
+            } catch (IOException | IllegalStateException e) {
+                // client went away - drop the stream instead of failing the committed write
+                emitters.remove(emitter);
+                log.debug("Dropped stock alert stream of seller {}: {}", event.getSellerId(), e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public boolean isOwnStream(Integer sellerId, String email) {
+        return sellerDao.findByEmail(email).map(seller -> seller.getSellerId().equals(sellerId)).orElse(false);
+    }
+    
+    @Override
+    public SseEmitter subscribe(Integer sellerId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        List<SseEmitter> emitters = emittersBySeller.computeIfAbsent(sellerId, id -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        Runnable remove = () -> emitters.remove(emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+    
+    // zero wins over low, so going straight from plenty to nothing is a single alert
+    private LowStockEvent.Level crossing(int before, int after) {
+        if (after <= 0 && before > 0) {
+            return LowStockEvent.Level.OUT_OF_STOCK;
+        }
+        if (after <= lowStockThreshold && before > lowStockThreshold) {
+            return LowStockEvent.Level.LOW;
+        }
+        return null;
+    }
+}
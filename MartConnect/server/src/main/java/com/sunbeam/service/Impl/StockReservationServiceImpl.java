@@ -0,0 +1,70 @@
+package com.sunbeam.service.Impl;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sunbeam.custom_exceptions.InvalidInputException;
+import com.sunbeam.custom_exceptions.ResourceNotFoundException;
+import com.sunbeam.dao.ProductDao;
+import com.sunbeam.events.ProductChangedEvent;
+import com.sunbeam.service.CategoryStatsService;
+import com.sunbeam.service.StockAlertService;
+import com.sunbeam.service.StockReservationService;
+
+/**
+ * Stock is taken with one conditional UPDATE per product (stock = stock - ? WHERE stock >= ?),
+ * all sent as a single JDBC batch. Check and decrement are one row-locked statement, so
+ * concurrent checkouts can never drive stock below zero. Runs inside the caller's transaction:
+ * a failure on any product rolls back the decrements already made for the others.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class StockReservationServiceImpl implements StockReservationService {
+    
+    @Autowired
+    private ProductDao productDao;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private CategoryStatsService categoryStatsService;
+    
+    @Autowired
+    private StockAlertService stockAlertService;
+    
+    @Override
+    public void reserve(Map<Integer, Integer> quantitiesByProduct) {
+        // always lock rows in product id order so two multi-item checkouts cannot deadlock
+        Map<Integer, Integer> ordered = new TreeMap<>(quantitiesByProduct);
+        for (Map.Entry<Integer, Integer> entry : ordered.entrySet()) {
+            if (entry.getValue() == null || entry.getValue() <= 0) {
+                throw new InvalidInputException("Quantity must be at least 1 for product ID: " + entry.getKey());
+            }
+        }
+        
+        // one batched round trip for the whole basket
+        int[] updated = productDao.decrementStockIfAvailable(ordered, LocalDateTime.now());
+        
+        int i = 0;
+        for (Integer productId : ordered.keySet()) {
+            if (updated[i++] == 0) {
+                if (!productDao.existsById(productId)) {
+                    throw new ResourceNotFoundException("Product not found with ID: " + productId);
+                }
+                throw new InvalidInputException("Insufficient stock for product ID: " + productId);
+            }
+        }
+        categoryStatsService.recordStockTaken(ordered.keySet());
+        stockAlertService.recordStockTaken(ordered);
+        ordered.keySet().forEach(productId ->
+                eventPublisher.publishEvent(ProductChangedEvent.attributesChanged(productId)));
+    }
+}
@@ -1,8 +1,15 @@
 package com.sunbeam.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+
+import com.sunbeam.dto.CheckoutDto;
 import com.sunbeam.dto.OrderDto;
+import com.sunbeam.dto.OrderSliceDto;
+import com.sunbeam.dto.OrderStatusTotalDto;
+import com.sunbeam.dto.OrderSummaryDto;
 
 /**
  * Service interface for Order entity operations
@@ -14,6 +21,12 @@ public interface OrderService extends BaseService<OrderDto, Integer> {
      */
     OrderDto createOrder(OrderDto orderDto);
     
+    /**
+     * Turn the customer's whole cart into one order per seller at current prices, take the stock
+     * and empty the cart - all in one transaction
+     */
+    CheckoutDto checkoutCart(Integer customerId, String transactionId);
+    
     /**
      * Cancel order and restore stock
      */
@@ -28,4 +41,29 @@ public interface OrderService extends BaseService<OrderDto, Integer> {
      * Find orders by seller with customer and items
      */
     List<OrderDto> findBySellerWithCustomerAndItems(Integer sellerId);
-} 
\ No newline at end of file
+    
+    /**
+     * Page of flat order summaries for a seller, newest first
+     */
+    Page<OrderSummaryDto> findSellerOrderSummaries(Integer sellerId, int page, int size);
+    
+    /**
+     * Page of flat order summaries for a customer, newest first
+     */
+    Page<OrderSummaryDto> findCustomerOrderSummaries(Integer customerId, int page, int size);
+    
+    /**
+     * Order count and summed total per payment status for a seller
+     */
+    List<OrderStatusTotalDto> findSellerStatusTotals(Integer sellerId);
+    
+    /**
+     * Keyset page of a seller's orders placed in [from, to) (either bound may be null), newest first
+     */
+    OrderSliceDto findSellerFeed(Integer sellerId, LocalDateTime from, LocalDateTime to, String cursor, int limit);
+    
+    /**
+     * Keyset page of a customer's orders placed in [from, to) (either bound may be null), newest first
+     */
+    OrderSliceDto findCustomerFeed(Integer customerId, LocalDateTime from, LocalDateTime to, String cursor, int limit);
+}
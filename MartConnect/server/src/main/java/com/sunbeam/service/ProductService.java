@@ -3,11 +3,13 @@ package com.sunbeam.service;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.sunbeam.dto.ProductDto;
+import com.sunbeam.dto.ProductSliceDto;
 
 /**
  * Service interface for Product entity operations
@@ -44,6 +46,16 @@ public interface ProductService extends BaseService<ProductDto, Integer> {
      */
     ProductDto updatePrice(Integer productId, BigDecimal newPrice);
     
+    /**
+     * Keyset page of products after the given opaque cursor (null for the first page)
+     */
+    ProductSliceDto findPage(String cursor, int limit);
+    
+    /**
+     * Push every product to the consumer as it is read, without holding the catalog in memory
+     */
+    void streamAll(Consumer<ProductDto> consumer);
+    
     /**
      * Find products by name
      */
@@ -66,17 +78,17 @@ public interface ProductService extends BaseService<ProductDto, Integer> {
     List<ProductDto> findByNameOrDescriptionContaining(String searchTerm);
     
     /**
-     * Search products by name and category
+     * Ranked full-text search over name, description, category and shop name
      */
-    List<ProductDto> searchProductsByNameAndCategory(String name, String category);
+    List<ProductDto> fullTextSearch(String query, int limit);
     
     /**
-     * Search products with multiple criteria
+     * Search products with multiple criteria, one bounded page at a time
      */
-    List<ProductDto> searchProducts(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, Integer minStock, String unit);
+    Page<ProductDto> searchProducts(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, Integer minStock, String unit, Pageable pageable);
     
     /**
-     * Get products with low stock by seller
+     * Get products with low stock by seller (null threshold = product.stock.low-threshold)
      */
     List<ProductDto> getProductsWithLowStockBySeller(Integer sellerId, Integer lowStockThreshold);
     
@@ -0,0 +1,35 @@
+package com.sunbeam.service;
+
+import java.time.LocalDate;
+
+import com.sunbeam.dto.SellerAnalyticsDto;
+import com.sunbeam.entities.Order;
+
+/**
+ * Service interface for the per-seller hourly / daily sales rollups behind the seller dashboard
+ */
+public interface SellerAnalyticsService {
+    
+    /**
+     * Add a freshly saved order to its seller's rollups, in the caller's transaction
+     */
+    void recordOrder(Order order);
+    
+    /**
+     * Totals, "day" or "hour" buckets and the top products of a seller for the days from..to (inclusive).
+     * Null dates mean the last 30 days.
+     */
+    SellerAnalyticsDto getAnalytics(Integer sellerId, LocalDate from, LocalDate to, String granularity, int top);
+    
+    /**
+     * Whether the seller signed in with this email is the seller whose figures are requested
+     */
+    boolean isOwnAnalytics(Integer sellerId, String email);
+    
+    /**
+     * Recompute one seller's rollups of the days from..to (to exclusive, never past today) from the orders
+     * table, one day per transaction - returns the number of orders read. A null from starts at the seller's
+     * oldest order; a null sellerId rebuilds every seller (the startup job).
+     */
+    int backfill(Integer sellerId, LocalDate from, LocalDate to);
+}
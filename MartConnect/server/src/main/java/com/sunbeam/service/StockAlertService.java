@@ -0,0 +1,38 @@
+package com.sunbeam.service;
+
+import java.util.Map;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sunbeam.entities.Product;
+
+/**
+ * Service interface for low-stock / out-of-stock alerts pushed to sellers
+ */
+public interface StockAlertService {
+    
+    /**
+     * Stock at or below which a product counts as low
+     */
+    int getLowStockThreshold();
+    
+    /**
+     * A product's stock was just set (previously stockBefore) - alerts when that crossed the threshold or reached zero
+     */
+    void recordStockChange(Product product, int stockBefore);
+    
+    /**
+     * Stock of these products was just taken (product id -> quantity) - one indexed query for the crossings
+     */
+    void recordStockTaken(Map<Integer, Integer> quantitiesByProduct);
+    
+    /**
+     * Whether the seller signed in with this email is the seller whose stream is requested
+     */
+    boolean isOwnStream(Integer sellerId, String email);
+    
+    /**
+     * Open an alert stream for one seller (server-sent events named "low-stock")
+     */
+    SseEmitter subscribe(Integer sellerId);
+}
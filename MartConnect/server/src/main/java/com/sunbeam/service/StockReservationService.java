@@ -0,0 +1,15 @@
+package com.sunbeam.service;
+
+import java.util.Map;
+
+/**
+ * Service interface for reserving product stock during order placement
+ */
+public interface StockReservationService {
+    
+    /**
+     * Take the requested quantity of every product (product id -> quantity) in the caller's transaction,
+     * failing without overselling if any product is missing or short of stock
+     */
+    void reserve(Map<Integer, Integer> quantitiesByProduct);
+}
@@ -0,0 +1,34 @@
+package com.sunbeam;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the whole application for the JMH benchmarks: "test" profile (in-memory H2 in MySQL mode
+ * seeded from test-data.sql), web server on a free port, only errors logged. Extra properties override
+ * the profile n application.properties, e.g. cache.l2.enabled=false - they go in as command line
+ * arguments, since builder default properties lose to every property file.
+ */
+public final class BenchmarkApplication {
+
+	private BenchmarkApplication() {
+	}
+
+	public static ConfigurableApplicationContext start(String... properties) {
+		String[] args = Stream.concat(Stream.of("server.port=0"), Arrays.stream(properties))
+				.map(property -> "--" + property)
+				.toArray(String[]::new);
+		return new SpringApplicationBuilder(Application.class)
+				.profiles("test")
+				.properties("spring.main.banner-mode=off", "logging.level.root=ERROR")
+				.run(args);
+	}
+
+	public static int port(ConfigurableApplicationContext context) {
+		return ((WebServerApplicationContext) context).getWebServer().getPort();
+	}
+}
@@ -0,0 +1,82 @@
+package com.sunbeam.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.sunbeam.dto.ProductDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductCacheTest {
+
+	private final ProductCache cache = new ProductCache(new SimpleMeterRegistry(), 1 << 20, Duration.ofMinutes(10));
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void changeToAnotherProductDuringALoadStillCaches() {
+		cache.get(1, () -> {
+			cache.evict(2);
+			return load(1, 45);
+		});
+		cache.get(1, () -> load(1, 45));
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void changeToTheSameProductDuringALoadDropsThatRead() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		Thread[] evictor = new Thread[1];
+		Thread reader = new Thread(() -> cache.get(1, () -> {
+			loading.countDown();
+			// hold the stale read until the eviction is waiting on it
+			waitUntilParked(evictor);
+			return load(1, 45);
+		}));
+		reader.start();
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+		evictor[0] = new Thread(() -> cache.evict(1));
+		evictor[0].start();
+		reader.join(5000);
+		evictor[0].join(5000);
+
+		Optional<ProductDto> fresh = cache.get(1, () -> load(1, 50));
+
+		assertThat(fresh).get().extracting(ProductDto::getPrice).isEqualTo(BigDecimal.valueOf(50));
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void callersGetCopies() {
+		cache.get(1, () -> load(1, 45)).get().setName("changed");
+
+		assertThat(cache.get(1, () -> load(1, 45))).get().extracting(ProductDto::getName).isEqualTo("Product 1");
+	}
+
+	private Optional<ProductDto> load(int id, int price) {
+		loads.incrementAndGet();
+		ProductDto product = new ProductDto();
+		product.setProductId(id);
+		product.setName("Product " + id);
+		product.setPrice(BigDecimal.valueOf(price));
+		return Optional.of(product);
+	}
+
+	private static void waitUntilParked(Thread[] thread) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline && (thread[0] == null
+				|| !EnumSet.of(Thread.State.BLOCKED, Thread.State.WAITING).contains(thread[0].getState()))) {
+			Thread.onSpinWait();
+		}
+	}
+}
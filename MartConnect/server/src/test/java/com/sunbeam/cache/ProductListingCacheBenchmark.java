@@ -0,0 +1,100 @@
+package com.sunbeam.cache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.sunbeam.BenchmarkApplication;
+import com.sunbeam.dto.CategoryDto;
+import com.sunbeam.dto.SellerDto;
+import com.sunbeam.service.CategoryService;
+import com.sunbeam.service.ProductService;
+import com.sunbeam.service.SellerService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Catalog reads with the Category/Seller second-level cache on n off (cache.l2.enabled). The
+ * listing pair is what the browse screen loads: the first product page plus the category list.
+ * Setup prints the SQL statements each read takes, so the saved round trips show next to the times.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks=ProductListingCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class ProductListingCacheBenchmark {
+
+	private static final int LIMIT = 20;
+
+	@Param({ "true", "false" })
+	public boolean secondLevelCache;
+
+	private ConfigurableApplicationContext context;
+	private ProductService productService;
+	private CategoryService categoryService;
+	private SellerService sellerService;
+
+	@Setup
+	public void start() {
+		context = BenchmarkApplication.start("cache.l2.enabled=" + secondLevelCache);
+		productService = context.getBean(ProductService.class);
+		categoryService = context.getBean(CategoryService.class);
+		sellerService = context.getBean(SellerService.class);
+
+		// first reads fill the caches, the second ones are counted
+		Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		productService.findPage(null, LIMIT);
+		categoryService.findAll();
+		sellerProfile();
+		statistics.clear();
+		productService.findPage(null, LIMIT);
+		categoryService.findAll();
+		long listing = statistics.getPrepareStatementCount();
+		statistics.clear();
+		sellerProfile();
+		System.out.printf("cache.l2.enabled=%s: listing pair %d statements, seller profile %d statements%n",
+				secondLevelCache, listing, statistics.getPrepareStatementCount());
+	}
+
+	@TearDown
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public void listingPair(Blackhole blackhole) {
+		blackhole.consume(productService.findPage(null, LIMIT));
+		blackhole.consume(categoryService.findAll());
+	}
+
+	@Benchmark
+	public List<CategoryDto> categoryList() {
+		return categoryService.findAll();
+	}
+
+	@Benchmark
+	public Optional<SellerDto> sellerProfile() {
+		return sellerService.findById(1);
+	}
+}
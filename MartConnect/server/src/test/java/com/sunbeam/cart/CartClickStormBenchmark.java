@@ -0,0 +1,98 @@
+package com.sunbeam.cart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunbeam.BenchmarkApplication;
+import com.sunbeam.dto.CartDto;
+import com.sunbeam.service.CartService;
+
+/**
+ * A click storm on add-to-cart: n clicks on one cart line, or spread over n lines, with the write
+ * buffer on (buffered) n off (write-through). Each call ends with the flush a cart read or checkout
+ * would do, so the buffered score includes the batched upserts the clicks turn into.
+ * The lines stay in the cart between calls - after the first call every click hits a stored line.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks=CartClickStormBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class CartClickStormBenchmark {
+
+	private static final int CUSTOMER_ID = 2;
+	private static final int FIRST_PRODUCT_ID = 1001;
+
+	@Param({ "10", "100" })
+	public int clicks;
+
+	@Param({ "sameLine", "acrossLines" })
+	public String target;
+
+	@Param({ "true", "false" })
+	public boolean buffered;
+
+	private ConfigurableApplicationContext context;
+	private CartService cartService;
+	private CartWriteBuffer cartWriteBuffer;
+	private CartDto[] storm;
+
+	@Setup
+	public void start() {
+		// no timed flushes: the measured call does the only one
+		context = BenchmarkApplication.start("cart.write-buffer.enabled=" + buffered, "cart.write-buffer.flush-interval=PT1H");
+		cartService = context.getBean(CartService.class);
+		cartWriteBuffer = context.getBean(CartWriteBuffer.class);
+
+		List<Object[]> products = new ArrayList<>();
+		for (int i = 0; i < clicks; i++) {
+			products.add(new Object[] { FIRST_PRODUCT_ID + i, "Product " + i });
+		}
+		context.getBean(JdbcTemplate.class).batchUpdate("INSERT INTO products (product_id, name, description, price, unit,"
+				+ " stock, image_url, category_id, seller_id, created_at)"
+				+ " VALUES (?, ?, 'bench', 10.00, 'kg', 1000000, '/b.jpg', 1, 1, NOW())", products);
+
+		storm = new CartDto[clicks];
+		for (int i = 0; i < clicks; i++) {
+			CartDto click = new CartDto();
+			click.setCustomerId(CUSTOMER_ID);
+			click.setProductId("sameLine".equals(target) ? FIRST_PRODUCT_ID : FIRST_PRODUCT_ID + i);
+			click.setQuantity(1);
+			storm[i] = click;
+		}
+	}
+
+	@TearDown
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public CartDto clickStorm() {
+		CartDto last = null;
+		for (CartDto click : storm) {
+			last = cartService.addToCart(click);
+		}
+		cartWriteBuffer.flush(CUSTOMER_ID);
+		return last;
+	}
+}
@@ -0,0 +1,222 @@
+package com.sunbeam.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.sunbeam.dao.CartBatchDao.PendingLine;
+import com.sunbeam.dao.CartDao;
+import com.sunbeam.dao.CustomerDao;
+import com.sunbeam.dto.CartDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Buffer behaviour against a fake CartDao that records every batch it is asked to write.
+ * Stored lines: customer 1 has product 10 (cart id 5, quantity 4) and product 11 (cart id 6, quantity 1),
+ * customer 2 has product 10 (cart id 7, quantity 1).
+ */
+class CartWriteBufferTest {
+
+	private CartDao cartDao;
+	private CartWriteBuffer buffer;
+	private final List<List<PendingLine>> batches = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		cartDao = mock(CartDao.class);
+		CustomerDao customerDao = mock(CustomerDao.class);
+		when(customerDao.existsById(any())).thenReturn(true);
+		when(cartDao.findLineState(1, 10)).thenReturn(lineState(10, 5, 4));
+		when(cartDao.findLineState(1, 11)).thenReturn(lineState(11, 6, 1));
+		when(cartDao.findLineState(2, 10)).thenReturn(lineState(10, 7, 1));
+		when(cartDao.findLineKey(7)).thenReturn(Collections.singletonList(new Object[] { 2, 10 }));
+		recordBatches();
+		// flush interval long enough that only the test triggers flushes
+		buffer = new CartWriteBuffer(cartDao, customerDao, mock(PlatformTransactionManager.class),
+				new SimpleMeterRegistry(), true, Duration.ofHours(1), 10_000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		buffer.close();
+	}
+
+	@Test
+	void repeatedClicksOnALineBecomeOneWrite() {
+		buffer.add(1, 10, 2);
+		buffer.add(1, 10, 2);
+		CartDto line = buffer.add(1, 10, 2);
+
+		assertThat(line.getCartId()).isEqualTo(5);
+		assertThat(line.getQuantity()).isEqualTo(10);
+		verify(cartDao, times(1)).findLineState(1, 10);
+
+		buffer.flush(1);
+
+		assertThat(batches).containsExactly(List.of(new PendingLine(1, 10, 6, false)));
+	}
+
+	@Test
+	void quantityChangeReplacesEarlierClicksAndLaterAddsStackOnIt() {
+		buffer.add(1, 10, 2);
+		buffer.setQuantity(5, 7);
+		buffer.add(1, 10, 1);
+
+		buffer.flush(1);
+
+		assertThat(batches).containsExactly(List.of(new PendingLine(1, 10, 8, true)));
+	}
+
+	@Test
+	void newLineIsWrittenAtOnceAndReturnsItsCartId() {
+		when(cartDao.findLineState(1, 12)).thenReturn(lineState(12, null, null), lineState(12, 42, 1));
+
+		CartDto line = buffer.add(1, 12, 1);
+
+		assertThat(line.getCartId()).isEqualTo(42);
+		assertThat(line.getQuantity()).isEqualTo(1);
+		assertThat(batches).containsExactly(List.of(new PendingLine(1, 12, 1, false)));
+
+		buffer.flushAll();
+
+		assertThat(batches).hasSize(1);
+	}
+
+	@Test
+	void customerFlushWaitsForAFlushAllStillWritingTheirLines() throws Exception {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			batches.add(List.copyOf(invocation.<Collection<PendingLine>>getArgument(0)));
+			return null;
+		}).when(cartDao).applyPendingLines(any(), any());
+		buffer.add(1, 10, 2);
+
+		CompletableFuture<Void> flushAll = CompletableFuture.runAsync(buffer::flushAll);
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+		// the lines are out of the buffer but not written yet - a cart read must not run now
+		CompletableFuture<Void> flush = CompletableFuture.runAsync(() -> buffer.flush(1));
+		Thread.sleep(200);
+		assertThat(flush).isNotDone();
+
+		release.countDown();
+		flush.get(5, TimeUnit.SECONDS);
+		flushAll.get(5, TimeUnit.SECONDS);
+		assertThat(batches).containsExactly(List.of(new PendingLine(1, 10, 2, false)));
+	}
+
+	@Test
+	void failedFlushPutsTheLinesBackUnderNewerClicks() {
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (calls.getAndIncrement() == 0) {
+				throw new DataAccessResourceFailureException("connection lost");
+			}
+			batches.add(List.copyOf(invocation.<Collection<PendingLine>>getArgument(0)));
+			return null;
+		}).when(cartDao).applyPendingLines(any(), any());
+		buffer.add(1, 10, 2);
+
+		assertThatThrownBy(() -> buffer.flush(1)).isInstanceOf(DataAccessResourceFailureException.class);
+		buffer.add(1, 10, 3);
+		buffer.flush(1);
+
+		assertThat(batches).containsExactly(List.of(new PendingLine(1, 10, 5, false)));
+		// the requeued line was still buffered, so the second click needed no lookup
+		verify(cartDao, times(1)).findLineState(1, 10);
+	}
+
+	@Test
+	void scheduledFlushFailureKeepsTheLinesForTheNextOne() {
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (calls.getAndIncrement() == 0) {
+				throw new DataAccessResourceFailureException("connection lost");
+			}
+			batches.add(List.copyOf(invocation.<Collection<PendingLine>>getArgument(0)));
+			return null;
+		}).when(cartDao).applyPendingLines(any(), any());
+		buffer.add(1, 10, 2);
+		buffer.setQuantity(7, 3);
+
+		buffer.flushAll();
+		buffer.flushAll();
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).containsExactlyInAnyOrder(new PendingLine(1, 10, 2, false),
+				new PendingLine(2, 10, 3, true));
+	}
+
+	@Test
+	void constraintViolationDropsOnlyTheOffendingLine() {
+		// product 11 was deleted after it was added to the cart
+		doAnswer(invocation -> {
+			Collection<PendingLine> lines = invocation.getArgument(0);
+			if (lines.stream().anyMatch(line -> line.productId() == 11)) {
+				throw new DataIntegrityViolationException("fk_cart_product");
+			}
+			batches.add(List.copyOf(lines));
+			return null;
+		}).when(cartDao).applyPendingLines(any(), any());
+		buffer.add(1, 10, 2);
+		buffer.add(1, 11, 1);
+		buffer.add(2, 10, 4);
+
+		buffer.flushAll();
+
+		assertThat(batches.stream().flatMap(List::stream)).containsExactlyInAnyOrder(
+				new PendingLine(1, 10, 2, false), new PendingLine(2, 10, 4, false));
+		batches.clear();
+		buffer.flushAll();
+		assertThat(batches).isEmpty();
+	}
+
+	@Test
+	void closeWritesWhatIsStillPending() {
+		buffer.add(1, 10, 2);
+		buffer.add(2, 10, 1);
+
+		buffer.close();
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).containsExactlyInAnyOrder(new PendingLine(1, 10, 2, false),
+				new PendingLine(2, 10, 1, false));
+	}
+
+	private void recordBatches() {
+		doAnswer(invocation -> {
+			batches.add(List.copyOf(invocation.<Collection<PendingLine>>getArgument(0)));
+			return null;
+		}).when(cartDao).applyPendingLines(any(), any());
+	}
+
+	// product id, cart id, quantity - cart id and quantity are null when the customer has no such line
+	private static List<Object[]> lineState(Integer productId, Integer cartId, Integer quantity) {
+		return Collections.singletonList(new Object[] { productId, cartId, quantity });
+	}
+}
@@ -0,0 +1,57 @@
+package com.sunbeam.controller;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * The seller id in the analytics paths is caller supplied - only its owner may read or rebuild the figures.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SellerAnalyticsControllerTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	private MockMvc mockMvc;
+
+	// built on the shared test context rather than a separate @AutoConfigureMockMvc one
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+	}
+
+	@Test
+	void sellerReadsOwnAnalytics() throws Exception {
+		mockMvc.perform(get("/api/sellers/1/analytics").with(user("seller@x.com").roles("SELLER")))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.sellerId").value(1));
+	}
+
+	@Test
+	void anotherSellersAnalyticsAreForbidden() throws Exception {
+		mockMvc.perform(get("/api/sellers/1/analytics").with(user("seller2@x.com").roles("SELLER")))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void sellerRebuildsOnlyOwnRollups() throws Exception {
+		mockMvc.perform(post("/api/sellers/1/analytics/backfill").with(user("seller@x.com").roles("SELLER")))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/api/sellers/2/analytics/backfill").with(user("seller@x.com").roles("SELLER")))
+				.andExpect(status().isForbidden());
+	}
+}
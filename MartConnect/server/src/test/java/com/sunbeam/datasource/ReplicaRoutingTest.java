@@ -0,0 +1,114 @@
+package com.sunbeam.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.sunbeam.dto.ProductDto;
+import com.sunbeam.service.ProductService;
+
+/**
+ * Two H2 databases stand in for primary n replica. The replica starts as a copy of the primary with
+ * product 1 renamed, so every read shows which database served it. The lag monitor is mocked:
+ * H2 has no SHOW REPLICA STATUS, n the tests decide whether the replica is usable.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL })
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	@MockitoBean
+	private ReplicaLagMonitor lagMonitor;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private UserDetailsService userDetailsService;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void copyPrimaryToReplica() throws Exception {
+		primary = new JdbcTemplate(primaryDataSource);
+		// a connection of its own - the application's replica pool is read-only
+		replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+		Path script = Files.createTempFile("primary", ".sql");
+		try {
+			primary.execute("SCRIPT TO '" + script + "'");
+			replica.execute("DROP ALL OBJECTS");
+			replica.execute("RUNSCRIPT FROM '" + script + "'");
+		} finally {
+			Files.delete(script);
+		}
+		replica.update("UPDATE products SET name = 'Fresh Tomatoes (replica)' WHERE product_id = 1");
+	}
+
+	@AfterEach
+	void restorePrimary() {
+		primary.update("UPDATE products SET price = 30.00 WHERE product_id = 4");
+		primary.update("DELETE FROM customers WHERE email = 'new@x.com'");
+	}
+
+	@Test
+	void readOnlyServiceReadsUseTheReplica() {
+		when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+		assertThat(productService.findBySeller(1)).extracting(ProductDto::getName).contains("Fresh Tomatoes (replica)");
+	}
+
+	@Test
+	void writesUseThePrimary() {
+		when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+		productService.updatePrice(4, new BigDecimal("31.00"));
+
+		assertThat(primary.queryForObject("SELECT price FROM products WHERE product_id = 4", BigDecimal.class))
+				.isEqualByComparingTo("31.00");
+		assertThat(replica.queryForObject("SELECT price FROM products WHERE product_id = 4", BigDecimal.class))
+				.isEqualByComparingTo("30.00");
+	}
+
+	@Test
+	void readsFallBackToThePrimaryWhenTheReplicaIsUnusable() {
+		when(lagMonitor.isReplicaUsable()).thenReturn(false);
+
+		assertThat(productService.findBySeller(1)).extracting(ProductDto::getName)
+				.contains("Fresh Tomatoes").doesNotContain("Fresh Tomatoes (replica)");
+	}
+
+	@Test
+	void signInLookupStaysOnThePrimary() {
+		when(lagMonitor.isReplicaUsable()).thenReturn(true);
+		// registered after the last replication - only the primary has the account
+		primary.update("INSERT INTO customers (first_name, last_name, email, phone, address, password, created_at) "
+				+ "VALUES ('New', 'User', 'new@x.com', '9876501299', 'Aundh', 'x', NOW())");
+
+		assertThat(userDetailsService.loadUserByUsername("new@x.com").getUsername()).isEqualTo("new@x.com");
+	}
+}
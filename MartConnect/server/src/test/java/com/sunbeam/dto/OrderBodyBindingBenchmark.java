@@ -0,0 +1,120 @@
+package com.sunbeam.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sunbeam.entities.Order.PaymentStatus;
+
+/**
+ * POST /api/orders body to OrderDto: the typed CreateOrderRequest record against the
+ * Map<String, Object> binding OrderController had before - casts, BigDecimal toString() round trips
+ * n the debug strings it printed (built here but sunk instead of written). Jackson is configured the
+ * way Spring Boot does it; run with the gc profiler for bytes per body.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks="OrderBodyBindingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class OrderBodyBindingBenchmark {
+
+	private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+	};
+
+	@Param({ "3", "30" })
+	public int items;
+
+	private ObjectMapper objectMapper;
+	private byte[] body;
+
+	@Setup
+	public void start() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		StringBuilder json = new StringBuilder("{\"customer\":{\"customerId\":1},\"seller\":{\"sellerId\":1},")
+				.append("\"totalAmount\":").append(45 * items).append(".00,\"paymentStatus\":\"PAID\",")
+				.append("\"transactionId\":\"txn_1729241234567\",\"orderItems\":[");
+		for (int i = 0; i < items; i++) {
+			json.append(i == 0 ? "" : ",").append("{\"product\":{\"productId\":").append(i + 1)
+					.append("},\"quantity\":1,\"pricePerUnit\":45.00}");
+		}
+		body = json.append("]}").toString().getBytes();
+	}
+
+	@Benchmark
+	public OrderDto record() throws Exception {
+		return objectMapper.readValue(body, CreateOrderRequest.class).toDto();
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public OrderDto map(Blackhole debug) throws Exception {
+		Map<String, Object> request = objectMapper.readValue(body, MAP);
+		debug.consume("Received order request: " + request);
+
+		Map<String, Object> customerMap = (Map<String, Object>) request.get("customer");
+		Map<String, Object> sellerMap = (Map<String, Object>) request.get("seller");
+		BigDecimal totalAmount = new BigDecimal(request.get("totalAmount").toString());
+		String paymentStatus = (String) request.get("paymentStatus");
+		String transactionId = (String) request.get("transactionId");
+		List<Map<String, Object>> orderItemsList = (List<Map<String, Object>>) request.get("orderItems");
+		debug.consume("Extracted data - Customer: " + customerMap + ", Seller: " + sellerMap + ", Total: " + totalAmount
+				+ ", Items: " + orderItemsList);
+
+		OrderDto orderDto = new OrderDto();
+		orderDto.setCustomerId((Integer) customerMap.get("customerId"));
+		orderDto.setSellerId((Integer) sellerMap.get("sellerId"));
+		BigDecimal calculatedTotal = BigDecimal.ZERO;
+		for (Map<String, Object> itemMap : orderItemsList) {
+			Integer quantity = (Integer) itemMap.get("quantity");
+			BigDecimal pricePerUnit = new BigDecimal(itemMap.get("pricePerUnit").toString());
+			BigDecimal itemTotal = pricePerUnit.multiply(new BigDecimal(quantity));
+			calculatedTotal = calculatedTotal.add(itemTotal);
+			debug.consume("Item: qty=" + quantity + ", price=" + pricePerUnit + ", itemTotal=" + itemTotal);
+		}
+		debug.consume("Difference: " + totalAmount.subtract(calculatedTotal));
+		orderDto.setTotalAmount(totalAmount);
+		orderDto.setDeliveryCharge(BigDecimal.ZERO);
+		orderDto.setTransactionId(transactionId);
+		LocalDateTime now = LocalDateTime.now();
+		orderDto.setCreatedAt(now);
+		orderDto.setUpdatedAt(now);
+		orderDto.setPaymentStatus(paymentStatus != null ? PaymentStatus.valueOf(paymentStatus) : PaymentStatus.PAID);
+
+		List<OrderItemDto> orderItems = new ArrayList<>();
+		for (Map<String, Object> itemMap : orderItemsList) {
+			Map<String, Object> productMap = (Map<String, Object>) itemMap.get("product");
+			OrderItemDto orderItemDto = new OrderItemDto();
+			orderItemDto.setProductId((Integer) productMap.get("productId"));
+			orderItemDto.setQuantity((Integer) itemMap.get("quantity"));
+			orderItemDto.setPricePerUnit(new BigDecimal(itemMap.get("pricePerUnit").toString()));
+			orderItemDto.setCreatedAt(now);
+			orderItems.add(orderItemDto);
+			debug.consume("Created order item for product ID: " + orderItemDto.getProductId());
+		}
+		orderDto.setOrderItems(orderItems);
+		return orderDto;
+	}
+}
@@ -0,0 +1,185 @@
+package com.sunbeam.mapper;
+
+import static com.sunbeam.mapper.MappingFixtures.CREATED;
+import static com.sunbeam.mapper.MappingFixtures.category;
+import static com.sunbeam.mapper.MappingFixtures.customer;
+import static com.sunbeam.mapper.MappingFixtures.legacyModelMapper;
+import static com.sunbeam.mapper.MappingFixtures.order;
+import static com.sunbeam.mapper.MappingFixtures.product;
+import static com.sunbeam.mapper.MappingFixtures.seller;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.sunbeam.dto.AreaDto;
+import com.sunbeam.dto.CartDto;
+import com.sunbeam.dto.CategoryDto;
+import com.sunbeam.dto.CustomerDto;
+import com.sunbeam.dto.OrderDto;
+import com.sunbeam.dto.OrderItemDto;
+import com.sunbeam.dto.ProductDto;
+import com.sunbeam.dto.SellerDto;
+import com.sunbeam.entities.Area;
+import com.sunbeam.entities.Cart;
+import com.sunbeam.entities.Category;
+import com.sunbeam.entities.Customer;
+import com.sunbeam.entities.Order;
+import com.sunbeam.entities.Order.PaymentStatus;
+import com.sunbeam.entities.OrderItem;
+import com.sunbeam.entities.Product;
+import com.sunbeam.entities.Seller;
+
+/**
+ * The generated mappers must produce what the ModelMapper bean they replaced produced
+ * (STRICT matching, nulls skipped, Product.categoryName -> ProductDto.category).
+ * The only differences are the association ids the MapStruct mappers fill on purpose.
+ */
+@SpringJUnitConfig({ ProductMapperImpl.class, CategoryMapperImpl.class, UserMapperImpl.class,
+		OrderMapperImpl.class, CartMapperImpl.class, AreaMapperImpl.class })
+class MapperEquivalenceTest {
+
+	private final ModelMapper modelMapper = legacyModelMapper();
+
+	@Autowired
+	private ProductMapper productMapper;
+
+	@Autowired
+	private CategoryMapper categoryMapper;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private OrderMapper orderMapper;
+
+	@Autowired
+	private CartMapper cartMapper;
+
+	@Autowired
+	private AreaMapper areaMapper;
+
+	@Test
+	void productToDto() {
+		Product product = product();
+
+		assertThat(productMapper.toDto(product)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(product, ProductDto.class));
+	}
+
+	@Test
+	void productDtoToEntity() {
+		ProductDto dto = new ProductDto(null, "Onions", null, new BigDecimal("35.50"), "kg", 5, null, 1, "Vegetables", 1);
+
+		assertThat(productMapper.toEntity(dto)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(dto, Product.class));
+	}
+
+	@Test
+	void categoryToDto() {
+		Category category = category();
+
+		assertThat(categoryMapper.toDto(category)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(category, CategoryDto.class));
+	}
+
+	@Test
+	void categoryDtoToEntity() {
+		CategoryDto dto = new CategoryDto(null, "Snacks", null, null, null);
+
+		assertThat(categoryMapper.toEntity(dto)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(dto, Category.class));
+	}
+
+	@Test
+	void customerAndSellerToDto() {
+		Customer customer = customer();
+		Seller seller = seller();
+
+		assertThat(userMapper.toDto(customer)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(customer, CustomerDto.class));
+		assertThat(userMapper.toDto(seller)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(seller, SellerDto.class));
+	}
+
+	@Test
+	void customerAndSellerDtoToEntity() {
+		CustomerDto customer = new CustomerDto(null, "Arjun", "Reddy", "cust@x.com", "9876501235", null, "secret");
+		SellerDto seller = new SellerDto(null, "Rajesh", "Patel", "seller@x.com", "9876543211", "FreshMart", "Mumbai", "secret");
+
+		assertThat(userMapper.toEntity(customer)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(customer, Customer.class));
+		assertThat(userMapper.toEntity(seller)).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(seller, Seller.class));
+	}
+
+	@Test
+	void orderToDto() {
+		Order order = order();
+
+		OrderDto mapped = orderMapper.toDto(order);
+
+		// display fields and ids were filled by hand in OrderServiceImpl before the mappers existed
+		assertThat(mapped).usingRecursiveComparison()
+				.ignoringFields("customerId", "sellerId", "customerName", "sellerName", "shopName", "orderItems")
+				.isEqualTo(modelMapper.map(order, OrderDto.class));
+		assertThat(mapped.getCustomerId()).isEqualTo(1);
+		assertThat(mapped.getSellerId()).isEqualTo(1);
+		assertThat(mapped.getCustomerName()).isEqualTo("Arjun Reddy");
+		assertThat(mapped.getSellerName()).isEqualTo("Rajesh Patel");
+		assertThat(mapped.getShopName()).isEqualTo("FreshMart");
+		assertThat(mapped.getOrderItems()).hasSize(1);
+	}
+
+	@Test
+	void orderItemToDto() {
+		OrderItem item = order().getOrderItems().get(0);
+
+		OrderItemDto mapped = orderMapper.toDto(item);
+
+		assertThat(mapped).usingRecursiveComparison()
+				.ignoringFields("orderId", "productId", "productName", "productImageUrl", "totalPrice")
+				.isEqualTo(modelMapper.map(item, OrderItemDto.class));
+		assertThat(mapped.getOrderId()).isEqualTo(7);
+		assertThat(mapped.getProductId()).isEqualTo(2);
+		assertThat(mapped.getProductName()).isEqualTo("Onions");
+		assertThat(mapped.getTotalPrice()).isEqualByComparingTo("71.00");
+	}
+
+	@Test
+	void orderDtoToEntityKeepsDefaultsForMissingValues() {
+		OrderDto dto = new OrderDto();
+		dto.setTotalAmount(new BigDecimal("71.00"));
+		dto.setDeliveryCharge(null);
+		dto.setPaymentStatus(null);
+
+		Order mapped = orderMapper.toEntity(dto);
+
+		assertThat(mapped).usingRecursiveComparison()
+				.isEqualTo(modelMapper.map(dto, Order.class));
+		assertThat(mapped.getDeliveryCharge()).isEqualByComparingTo("0");
+		assertThat(mapped.getPaymentStatus()).isEqualTo(PaymentStatus.PAID);
+	}
+
+	@Test
+	void cartAndAreaToDto() {
+		Cart cart = new Cart(5, customer(), product(), 3, CREATED, CREATED);
+		Area area = new Area(9, "411005", "Shivaji Nagar", "Pune", "Maharashtra", customer(), CREATED);
+
+		CartDto cartDto = cartMapper.toDto(cart);
+		AreaDto areaDto = areaMapper.toDto(area);
+
+		// ModelMapper's STRICT matching left the association ids null
+		assertThat(cartDto).usingRecursiveComparison().ignoringFields("customerId", "productId")
+				.isEqualTo(modelMapper.map(cart, CartDto.class));
+		assertThat(areaDto).usingRecursiveComparison().ignoringFields("customerId")
+				.isEqualTo(modelMapper.map(area, AreaDto.class));
+		assertThat(cartDto.getCustomerId()).isEqualTo(1);
+		assertThat(cartDto.getProductId()).isEqualTo(2);
+		assertThat(areaDto.getCustomerId()).isEqualTo(1);
+	}
+}
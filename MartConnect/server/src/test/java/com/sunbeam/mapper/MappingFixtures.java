@@ -0,0 +1,105 @@
+package com.sunbeam.mapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import com.sunbeam.dto.ProductDto;
+import com.sunbeam.entities.Category;
+import com.sunbeam.entities.Customer;
+import com.sunbeam.entities.Order;
+import com.sunbeam.entities.OrderItem;
+import com.sunbeam.entities.Product;
+import com.sunbeam.entities.Seller;
+
+/**
+ * The ModelMapper configuration the generated mappers replaced, plus the entity graph
+ * both MapperEquivalenceTest n MapperBenchmark map
+ */
+final class MappingFixtures {
+
+	static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+	private MappingFixtures() {
+	}
+
+	// the bean Application used to declare
+	static ModelMapper legacyModelMapper() {
+		ModelMapper mapper = new ModelMapper();
+		mapper.getConfiguration()
+				.setMatchingStrategy(MatchingStrategies.STRICT)
+				.setPropertyCondition(Conditions.isNotNull());
+		mapper.createTypeMap(Product.class, ProductDto.class)
+				.addMappings(mapping -> mapping.map(Product::getCategoryName, ProductDto::setCategory));
+		return mapper;
+	}
+
+	static Category category() {
+		Category category = new Category();
+		category.setCategoryId(1);
+		category.setName("Vegetables");
+		category.setDescription("Fresh farm vegetables");
+		category.setCreatedAt(CREATED);
+		return category;
+	}
+
+	static Customer customer() {
+		Customer customer = new Customer();
+		customer.setCustomerId(1);
+		customer.setFirstName("Arjun");
+		customer.setLastName("Reddy");
+		customer.setEmail("cust@x.com");
+		customer.setPhone("9876501235");
+		customer.setAddress("Baner");
+		customer.setPassword("hash");
+		customer.setCreatedAt(CREATED);
+		return customer;
+	}
+
+	static Seller seller() {
+		Seller seller = new Seller();
+		seller.setSellerId(1);
+		seller.setFirstName("Rajesh");
+		seller.setLastName("Patel");
+		seller.setEmail("seller@x.com");
+		seller.setPhone("9876543211");
+		seller.setPassword("hash");
+		seller.setShopName("FreshMart");
+		seller.setShopAddress("Mumbai");
+		seller.setCreatedAt(CREATED);
+		return seller;
+	}
+
+	static Product product() {
+		Product product = new Product();
+		product.setProductId(2);
+		product.setName("Onions");
+		product.setDescription("white onions");
+		product.setPrice(new BigDecimal("35.50"));
+		product.setUnit("kg");
+		product.setStock(5);
+		product.setImageUrl("/o.jpg");
+		product.setCategory(category());
+		product.setSeller(seller());
+		product.setCreatedAt(CREATED);
+		return product;
+	}
+
+	static Order order() {
+		Order order = new Order();
+		order.setOrderId(7);
+		order.setCustomer(customer());
+		order.setSeller(seller());
+		order.setTotalAmount(new BigDecimal("71.00"));
+		order.setOrderDate(CREATED);
+		order.setTransactionId("TXN1");
+		order.setCreatedAt(CREATED);
+		OrderItem item = new OrderItem(11, order, product(), 2, new BigDecimal("35.50"), CREATED);
+		order.setOrderItems(List.of(item));
+		return order;
+	}
+}
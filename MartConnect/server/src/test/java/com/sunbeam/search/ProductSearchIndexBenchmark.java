@@ -0,0 +1,100 @@
+package com.sunbeam.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Query latency of the in-memory product index over a synthetic catalog with a skewed vocabulary.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks=ProductSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xms3g", "-Xmx3g" })
+public class ProductSearchIndexBenchmark {
+
+    private static final String[] SYLLABLES = { "to", "ma", "ri", "on", "ka", "le", "mi", "sa", "po", "ta", "ne", "ro",
+            "ba", "chi", "li", "de", "va", "nu", "pe", "go" };
+    private static final int LIMIT = 20;
+
+    @Param({ "100000", "1000000" })
+    public int products;
+
+    private ProductSearchIndex index;
+    private String[] vocabulary;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        vocabulary = IntStream.range(0, 50_000).mapToObj(i -> word(random)).distinct().toArray(String[]::new);
+        String[] categories = IntStream.range(0, 40).mapToObj(i -> word(random)).toArray(String[]::new);
+        String[] shops = IntStream.range(0, 5_000).mapToObj(i -> word(random) + " " + word(random)).toArray(String[]::new);
+        index = new ProductSearchIndex();
+        index.rebuild(IntStream.range(0, products).mapToObj(id -> new ProductIndexDocument(id,
+                words(random, 3), words(random, 12), categories[random.nextInt(categories.length)],
+                shops[random.nextInt(shops.length)])));
+    }
+
+    // a common whole word
+    @Benchmark
+    public List<Integer> commonTerm() {
+        return index.search(vocabulary[0], LIMIT);
+    }
+
+    // two letters typed - expands to thousands of dictionary terms
+    @Benchmark
+    public List<Integer> shortPrefix() {
+        return index.search("to", LIMIT);
+    }
+
+    @Benchmark
+    public List<Integer> longerPrefix() {
+        return index.search(vocabulary[3].substring(0, 4), LIMIT);
+    }
+
+    @Benchmark
+    public List<Integer> termAndPrefix() {
+        return index.search(vocabulary[1] + " " + vocabulary[2].substring(0, 3), LIMIT);
+    }
+
+    @Benchmark
+    public List<Integer> rareTerms() {
+        return index.search(vocabulary[vocabulary.length - 1] + " " + vocabulary[vocabulary.length - 2], LIMIT);
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            // skewed towards the start of the vocabulary, like real product text
+            double skew = Math.pow(random.nextDouble(), 3);
+            text.append(vocabulary[(int) (skew * vocabulary.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
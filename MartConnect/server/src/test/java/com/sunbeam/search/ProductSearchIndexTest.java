@@ -0,0 +1,149 @@
+package com.sunbeam.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.sunbeam.events.ProductChangedEvent;
+
+class ProductSearchIndexTest {
+
+	private final ProductSearchIndex index = new ProductSearchIndex();
+
+	@Test
+	void ranksNameMatchesAboveDescriptionMatches() {
+		index.index(doc(1, "Onions", "goes well with tomatoes", "Vegetables", "FreshMart"));
+		index.index(doc(2, "Tomatoes", "red and ripe", "Vegetables", "FreshMart"));
+
+		assertThat(index.search("tomatoes", 10)).containsExactly(2, 1);
+	}
+
+	@Test
+	void requiresEveryTermAndMatchesTheLastOneAsAPrefix() {
+		index.index(doc(1, "Cherry Tomatoes", null, "Vegetables", "FreshMart"));
+		index.index(doc(2, "Tomato Ketchup", null, "Grocery", "FreshMart"));
+		index.index(doc(3, "Cherry Jam", null, "Grocery", "FreshMart"));
+
+		assertThat(index.search("cherry tom", 10)).containsExactly(1);
+		assertThat(index.search("tom", 10)).containsExactlyInAnyOrder(1, 2);
+		// only the last term is a prefix
+		assertThat(index.search("tom cherry", 10)).isEmpty();
+	}
+
+	@Test
+	void prefixCoversEveryExpansionOfALargeDictionary() {
+		// far more distinct terms under one prefix than a capped expansion would visit
+		int products = 5000;
+		for (int i = 0; i < products; i++) {
+			index.index(doc(i, "item" + i, null, null, null));
+		}
+
+		assertThat(index.search("item", products)).hasSize(products);
+		assertThat(index.search("item49", products)).hasSize(111);
+	}
+
+	@Test
+	void keptPrefixPostingsFollowLaterChanges() {
+		int products = ProductSearchIndex.PREFIX_POSTINGS_MIN_SIZE + 100;
+		for (int i = 0; i < products; i++) {
+			index.index(doc(i, "widget" + i, null, null, null));
+		}
+		// first search merges and keeps the postings of "wid"
+		assertThat(index.search("wid", products + 10)).hasSize(products);
+
+		index.index(doc(products, "widgetnew", null, null, null));
+		index.index(doc(0, "gadget", null, null, null));
+		index.remove(1);
+
+		List<Integer> hits = index.search("wid", products + 10);
+		assertThat(hits).hasSize(products - 1).contains(products).doesNotContain(0, 1);
+	}
+
+	@Test
+	void keepsRankingByBestExpansionScore() {
+		index.index(doc(1, "plain", "toaster", null, null));
+		index.index(doc(2, "toast", "toaster", null, null));
+
+		// doc 2 matches "toast" in the name (4) and "toaster" in the description (1): best is 4, not 5
+		assertThat(index.search("toa", 10)).containsExactly(2, 1);
+	}
+
+	@Test
+	void compactionKeepsSearchesCorrect() {
+		int products = 4000;
+		for (int i = 0; i < products; i++) {
+			index.index(doc(i, "sample" + i, i % 2 == 0 ? "even" : "odd", null, null));
+		}
+		assertThat(index.search("sam", products)).hasSize(products);
+
+		// removing half of the documents triggers compaction
+		IntStream.range(0, products).filter(i -> i % 2 == 0).forEach(index::remove);
+
+		assertThat(index.size()).isEqualTo(products / 2);
+		assertThat(index.search("sam", products)).hasSize(products / 2).allMatch(id -> id % 2 == 1);
+		assertThat(index.search("even", products)).isEmpty();
+		assertThat(index.search("odd sample1", products)).contains(1, 11, 111, 1111);
+	}
+
+	@Test
+	void rebuildReplaysChangesThatArriveWhileItStreams() {
+		index.index(doc(99, "stale", null, null, null));
+
+		Stream<ProductIndexDocument> documents = Stream.of(doc(1, "apples", null, null, null), doc(2, "apricots", null, null, null))
+				// product 2 is deleted after the rebuild query has already read it
+				.peek(document -> index.onProductChanged(ProductChangedEvent.deleted(2)));
+		index.rebuild(documents);
+
+		assertThat(index.search("ap", 10)).containsExactly(1);
+		assertThat(index.search("stale", 10)).isEmpty();
+	}
+
+	@Test
+	void failedRebuildKeepsTheOldIndex() {
+		index.index(doc(1, "apples", null, null, null));
+		index.index(doc(2, "apricots", null, null, null));
+
+		Stream<ProductIndexDocument> documents = Stream.of(doc(1, "apples", null, null, null), doc(3, "bananas", null, null, null))
+				.peek(document -> {
+					if (document.getProductId() == 3) {
+						throw new IllegalStateException("cursor closed");
+					}
+				});
+		assertThatThrownBy(() -> index.rebuild(documents)).isInstanceOf(IllegalStateException.class);
+
+		assertThat(index.search("ap", 10)).containsExactlyInAnyOrder(1, 2);
+		assertThat(index.search("bananas", 10)).isEmpty();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	void mergeKeepsDocOrderAndBestScore() {
+		ProductSearchIndex.PostingList first = postings(new int[] { 1, 4, 9 }, new int[] { 1, 4, 1 });
+		ProductSearchIndex.PostingList second = postings(new int[] { 2, 4, 10 }, new int[] { 2, 2, 2 });
+		ProductSearchIndex.PostingList third = postings(new int[0], new int[0]);
+
+		ProductSearchIndex.PostingList merged = ProductSearchIndex.Segment.merge(List.of(first, second, third));
+
+		assertThat(merged.size).isEqualTo(5);
+		assertThat(Arrays.copyOf(merged.docs, merged.size)).containsExactly(1, 2, 4, 9, 10);
+		assertThat(Arrays.copyOf(merged.scores, merged.size)).containsExactly(1, 2, 4, 1, 2);
+	}
+
+	private static ProductSearchIndex.PostingList postings(int[] docs, int[] scores) {
+		ProductSearchIndex.PostingList postings = new ProductSearchIndex.PostingList();
+		for (int i = 0; i < docs.length; i++) {
+			postings.add(docs[i], scores[i]);
+		}
+		return postings;
+	}
+
+	private static ProductIndexDocument doc(int id, String name, String description, String category, String shop) {
+		return new ProductIndexDocument(id, name, description, category, shop);
+	}
+}
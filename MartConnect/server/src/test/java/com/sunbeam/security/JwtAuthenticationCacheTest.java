@@ -0,0 +1,44 @@
+package com.sunbeam.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtAuthenticationCacheTest {
+
+	private final JwtUtils jwtUtils = JwtFixtures.jwtUtils(Clock.systemUTC());
+
+	private final JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtUtils, new SimpleMeterRegistry(), 100);
+
+	@Test
+	void everyRequestGetsItsOwnAuthentication() {
+		String jwt = jwtUtils.generateJwtToken(JwtFixtures.customer("cust@x.com"));
+
+		Authentication first = cache.authenticate(jwt);
+		((UsernamePasswordAuthenticationToken) first).setDetails("request 1");
+		first.setAuthenticated(false);
+		Authentication second = cache.authenticate(jwt);
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.isAuthenticated()).isTrue();
+		assertThat(second.getDetails()).isNull();
+		assertThat(second.getName()).isEqualTo("cust@x.com");
+		assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_CUSTOMER");
+	}
+
+	@Test
+	void invalidTokensAreRejected() {
+		String jwt = jwtUtils.generateJwtToken(JwtFixtures.customer("cust@x.com"));
+
+		assertThatThrownBy(() -> cache.authenticate(jwt.substring(0, jwt.length() - 2)))
+				.isInstanceOf(JwtException.class);
+	}
+}
@@ -0,0 +1,67 @@
+package com.sunbeam.security;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * The three JwtUtils steps on the request path: signing a token at login, parsing n verifying one,
+ * n turning verified claims into an Authentication. Run with the gc profiler to see the bytes each
+ * step allocates; the claims step is what the filter still pays on a JwtAuthenticationCache miss.
+ *
+ * There is no pre-built claims template for signing: every token differs in subject, iat n exp,
+ * so a template would only save the small claims map while the header/payload JSON n the HMAC
+ * still run per token.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks="JwtBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class JwtBenchmark {
+
+	private JwtUtils jwtUtils;
+	private Authentication customer;
+	private String token;
+	private Claims claims;
+
+	@Setup
+	public void start() {
+		JwtFixtures.quietLogging();
+		jwtUtils = JwtFixtures.jwtUtils(Clock.systemUTC());
+		customer = JwtFixtures.customer("cust@x.com");
+		token = jwtUtils.generateJwtToken(customer);
+		claims = jwtUtils.validateJwtToken(token);
+	}
+
+	@Benchmark
+	public String generate() {
+		return jwtUtils.generateJwtToken(customer);
+	}
+
+	@Benchmark
+	public Claims validate() {
+		return jwtUtils.validateJwtToken(token);
+	}
+
+	@Benchmark
+	public Authentication authenticationFromClaims() {
+		return jwtUtils.populateAuthenticationTokenFromClaims(claims);
+	}
+}
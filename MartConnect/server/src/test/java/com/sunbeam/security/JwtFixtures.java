@@ -0,0 +1,45 @@
+package com.sunbeam.security;
+
+import java.time.Clock;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * JwtUtils wired the way Spring does it (default secret n 24h expiry) without an application context
+ */
+final class JwtFixtures {
+
+	static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+	private JwtFixtures() {
+	}
+
+	static JwtUtils jwtUtils(Clock clock) {
+		StaticListableBeanFactory beans = new StaticListableBeanFactory();
+		beans.addBean("clock", clock);
+		JwtUtils jwtUtils = new JwtUtils(beans.getBeanProvider(Clock.class));
+		ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+		ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+		jwtUtils.init();
+		return jwtUtils;
+	}
+
+	static Authentication customer(String email) {
+		return UsernamePasswordAuthenticationToken.authenticated(email, null,
+				List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+	}
+
+	// without Spring Boot logback starts at DEBUG on the console - benchmarks measure the code, not the appender
+	static void quietLogging() {
+		((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+	}
+}
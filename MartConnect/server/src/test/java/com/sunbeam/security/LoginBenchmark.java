@@ -0,0 +1,90 @@
+package com.sunbeam.security;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.sunbeam.BenchmarkApplication;
+
+/**
+ * Login throughput over HTTP (POST /api/users/login) with concurrent clients: a good login, a wrong
+ * password n an unknown email. Each is one user lookup n one BCrypt check on the hashing pool, so
+ * all three should land close together n scale with the cores given to that pool.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks=LoginBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class LoginBenchmark {
+
+	private ConfigurableApplicationContext context;
+	private HttpClient client;
+	private URI login;
+
+	@Setup
+	public void start() {
+		// AuthController prints every attempt - keep that out of the JMH output
+		PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+		System.setOut(discard);
+		System.setErr(discard);
+		context = BenchmarkApplication.start();
+		client = HttpClient.newHttpClient();
+		login = URI.create("http://localhost:" + BenchmarkApplication.port(context) + "/api/users/login");
+	}
+
+	@TearDown
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public String customerLogin() throws Exception {
+		return post("cust@x.com", "pass", "Customer", 200);
+	}
+
+	@Benchmark
+	public String wrongPassword() throws Exception {
+		return post("cust@x.com", "wrong", "Customer", 401);
+	}
+
+	@Benchmark
+	public String unknownEmail() throws Exception {
+		return post("nobody@x.com", "pass", "Customer", 401);
+	}
+
+	private String post(String email, String password, String role, int expectedStatus) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(login)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(
+						"{\"email\":\"" + email + "\",\"password\":\"" + password + "\",\"role\":\"" + role + "\"}"))
+				.build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != expectedStatus) {
+			throw new IllegalStateException("login answered " + response.statusCode() + ": " + response.body());
+		}
+		return response.body();
+	}
+}
@@ -0,0 +1,93 @@
+package com.sunbeam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sunbeam.dto.CartItemDto;
+import com.sunbeam.dto.CartItemDto.StockStatus;
+import com.sunbeam.dto.CartViewDto;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The priced cart view is a single joined projection, whatever the number of lines or sellers.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CartViewQueryCountTest {
+
+	private static final int CUSTOMER_ID = 2;
+
+	@Autowired
+	private CartService cartService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void emptyCart() {
+		jdbcTemplate.update("DELETE FROM cart WHERE customer_id = ?", CUSTOMER_ID);
+	}
+
+	@Test
+	void statementCountDoesNotGrowWithTheCart() {
+		addLine(1, 2);
+		long oneLine = statementsForCartView();
+
+		addLine(2, 10);
+		addLine(3, 1);
+		long threeLines = statementsForCartView();
+
+		assertThat(oneLine).isEqualTo(1);
+		assertThat(threeLines).isEqualTo(oneLine);
+	}
+
+	@Test
+	void viewCarriesTotalsAndStockWarnings() {
+		addLine(1, 2);
+		addLine(2, 10);
+
+		CartViewDto view = cartService.getCartView(CUSTOMER_ID);
+
+		assertThat(view.getCartTotal()).isEqualByComparingTo(new BigDecimal("445.00"));
+		assertThat(view.getTotalQuantity()).isEqualTo(12);
+		assertThat(view.getItems()).extracting(CartItemDto::getStockStatus)
+				.containsExactlyInAnyOrder(StockStatus.IN_STOCK, StockStatus.INSUFFICIENT_STOCK);
+		assertThat(view.getStockWarnings()).containsExactly("Only 5 kg of Onions left");
+	}
+
+	private long statementsForCartView() {
+		statistics.clear();
+		assertThat(cartService.getCartView(CUSTOMER_ID).getItems()).allSatisfy(item -> {
+			assertThat(item.getProductName()).isNotBlank();
+			assertThat(item.getTotalPrice()).isNotNull();
+		});
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void addLine(int productId, int quantity) {
+		jdbcTemplate.update("INSERT INTO cart (customer_id, product_id, quantity, created_at) VALUES (?, ?, ?, NOW())",
+				CUSTOMER_ID, productId, quantity);
+	}
+}
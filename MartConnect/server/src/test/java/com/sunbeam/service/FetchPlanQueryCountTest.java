@@ -0,0 +1,114 @@
+package com.sunbeam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sunbeam.cache.ProductCache;
+import com.sunbeam.dto.OrderDto;
+import com.sunbeam.dto.ProductDto;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * With every association LAZY, each read endpoint gets exactly what its DTO needs from its
+ * entity graph: one select per call, and the DTOs are complete without further loads.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FetchPlanQueryCountTest {
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductCache productCache;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void catalogPageIsOneSelect() {
+		long statements = statementsFor(() -> assertThat(productService.findPage(null, 20).getContent())
+				.extracting(ProductDto::getCategory).doesNotContainNull());
+
+		assertThat(statements).isEqualTo(1);
+	}
+
+	@Test
+	void productDetailIsOneSelect() {
+		productCache.evict(1);
+
+		long statements = statementsFor(() -> assertThat(productService.findById(1))
+				.hasValueSatisfying(product -> assertThat(product.getCategory()).isEqualTo("Vegetables")));
+
+		assertThat(statements).isEqualTo(1);
+	}
+
+	@Test
+	void sellerDashboardIsOneSelect() {
+		long statements = statementsFor(() -> assertThat(productService.findBySeller(1))
+				.extracting(ProductDto::getCategory).containsOnly("Vegetables"));
+
+		assertThat(statements).isEqualTo(1);
+	}
+
+	@Test
+	void orderDetailIsOneSelect() {
+		long statements = statementsFor(() -> assertThat(orderService.findById(1)).hasValueSatisfying(this::assertComplete));
+
+		assertThat(statements).isEqualTo(1);
+	}
+
+	@Test
+	void orderListsAreOneSelectEach() {
+		assertThat(statementsFor(() -> orderService.findAll().forEach(this::assertComplete))).isEqualTo(1);
+		assertThat(statementsFor(() -> orderService.findBySellerWithCustomerAndItems(1).forEach(this::assertComplete)))
+				.isEqualTo(1);
+		assertThat(statementsFor(() -> orderService.findByCustomerWithSellerAndItems(1).forEach(this::assertComplete)))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void orderFeedIsIdsThenDetails() {
+		long statements = statementsFor(() -> assertThat(
+				orderService.findSellerFeed(1, LocalDateTime.of(2024, 1, 1, 0, 0), null, null, 20).getContent())
+				.hasSize(2).allSatisfy(this::assertComplete));
+
+		assertThat(statements).isEqualTo(2);
+	}
+
+	// reading every nested field the DTO serializes must not need another select
+	private void assertComplete(OrderDto order) {
+		assertThat(order.getCustomerName()).isNotBlank();
+		assertThat(order.getShopName()).isNotBlank();
+		assertThat(order.getOrderItems()).isNotEmpty().allSatisfy(item -> {
+			assertThat(item.getProductName()).isNotBlank();
+			assertThat(item.getProduct().getCategory()).isNotBlank();
+		});
+	}
+
+	private long statementsFor(Runnable call) {
+		statistics.clear();
+		call.run();
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,100 @@
+package com.sunbeam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sunbeam.dto.OrderDto;
+import com.sunbeam.dto.OrderItemDto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * createOrder loads the whole basket with one query, so the statements it prepares do not grow
+ * with the number of lines. Every order is flushed and then rolled back to keep the seed data.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderCreationQueryCountTest {
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void warmUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		// first order fills the seller cache, so the measured runs start from the same state
+		statementsFor(1);
+	}
+
+	@Test
+	void basketProductsAreLoadedWithOneQuery() {
+		statementsFor(3);
+
+		assertThat(statistics.getEntityStatistics("com.sunbeam.entities.Product").getLoadCount()).isEqualTo(3);
+		assertThat(statistics.getQueryStatistics(
+				"SELECT p FROM Product p JOIN FETCH p.category WHERE p.productId IN :ids").getExecutionCount())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void statementCountDoesNotGrowWithTheBasket() {
+		long oneLine = statementsFor(1);
+		long threeLines = statementsFor(3);
+
+		assertThat(threeLines).isEqualTo(oneLine);
+	}
+
+	private long statementsFor(int lines) {
+		OrderDto order = new OrderDto();
+		order.setCustomerId(1);
+		order.setSellerId(1);
+		order.setTotalAmount(new BigDecimal("100.00"));
+		// createOrder keeps the caller's timestamps and the generated schema makes them NOT NULL
+		order.setCreatedAt(LocalDateTime.now());
+		List<OrderItemDto> items = new ArrayList<>();
+		int[] productIds = { 1, 2, 4 };
+		for (int i = 0; i < lines; i++) {
+			OrderItemDto item = new OrderItemDto();
+			item.setProductId(productIds[i]);
+			item.setQuantity(1);
+			item.setPricePerUnit(new BigDecimal("10.00"));
+			item.setCreatedAt(LocalDateTime.now());
+			items.add(item);
+		}
+		order.setOrderItems(items);
+
+		statistics.clear();
+		transactionTemplate.executeWithoutResult(status -> {
+			orderService.createOrder(order);
+			entityManager.flush();
+			status.setRollbackOnly();
+		});
+		return statistics.getPrepareStatementCount();
+	}
+}
@@ -0,0 +1,119 @@
+package com.sunbeam.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunbeam.BenchmarkApplication;
+import com.sunbeam.dto.OrderDto;
+import com.sunbeam.dto.OrderSliceDto;
+import com.sunbeam.dto.OrderSummaryDto;
+
+/**
+ * Order history of one seller with a large backlog: keyset feed pages (newest, deep cursor, date window)
+ * against an OFFSET summary page n the unbounded list the feed replaces. One item per order, one
+ * order a minute going back from now.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks=OrderFeedBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgs = { "-Xms3g", "-Xmx3g" })
+public class OrderFeedBenchmark {
+
+	private static final int SELLER_ID = 1;
+	private static final int FIRST_ORDER_ID = 1000;
+	private static final int LIMIT = 20;
+
+	@Param({ "100000" })
+	public int orders;
+
+	private ConfigurableApplicationContext context;
+	private OrderService orderService;
+	private LocalDateTime middle;
+	private String middleCursor;
+
+	@Setup
+	public void start() {
+		context = BenchmarkApplication.start();
+		orderService = context.getBean(OrderService.class);
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		LocalDateTime newest = LocalDateTime.now().withNano(0);
+		int[] productIds = { 1, 2, 4 };
+		for (int start = 0; start < orders; start += 5_000) {
+			List<Object[]> orderRows = new ArrayList<>();
+			List<Object[]> itemRows = new ArrayList<>();
+			for (int i = start; i < Math.min(start + 5_000, orders); i++) {
+				Timestamp placed = Timestamp.valueOf(newest.minusMinutes(i));
+				orderRows.add(new Object[] { FIRST_ORDER_ID + i, 1 + i % 2, SELLER_ID, placed, "TXN" + i });
+				itemRows.add(new Object[] { FIRST_ORDER_ID + i, FIRST_ORDER_ID + i, productIds[i % 3] });
+			}
+			jdbcTemplate.batchUpdate("INSERT INTO orders (order_id, customer_id, seller_id, total_amount, delivery_charge,"
+					+ " payment_status, order_date, transaction_id, created_at)"
+					+ " VALUES (?, ?, ?, 90.00, 0, 'PAID', ?, ?, NOW())", orderRows);
+			jdbcTemplate.batchUpdate("INSERT INTO order_items (order_item_id, order_id, product_id, quantity,"
+					+ " price_per_unit, created_at) VALUES (?, ?, ?, 2, 45.00, NOW())", itemRows);
+		}
+		jdbcTemplate.execute("ANALYZE");
+
+		middle = newest.minusMinutes(orders / 2);
+		middleCursor = orderService.findSellerFeed(SELLER_ID, null, middle, null, LIMIT).getNextCursor();
+	}
+
+	@TearDown
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public OrderSliceDto feedFirstPage() {
+		return orderService.findSellerFeed(SELLER_ID, null, null, null, LIMIT);
+	}
+
+	// halfway through the history - the keyset predicate seeks instead of skipping rows
+	@Benchmark
+	public OrderSliceDto feedPageAfterMiddleCursor() {
+		return orderService.findSellerFeed(SELLER_ID, null, null, middleCursor, LIMIT);
+	}
+
+	@Benchmark
+	public OrderSliceDto feedOneDayWindow() {
+		return orderService.findSellerFeed(SELLER_ID, middle.minusDays(1), middle, null, LIMIT);
+	}
+
+	// same depth with OFFSET paging of the flat summaries
+	@Benchmark
+	public Page<OrderSummaryDto> summaryPageAtMiddleOffset() {
+		return orderService.findSellerOrderSummaries(SELLER_ID, orders / 2 / LIMIT, LIMIT);
+	}
+
+	// the whole history with customer, items n products - what the unbounded endpoint returns
+	@Benchmark
+	@Warmup(iterations = 2)
+	@Measurement(iterations = 3)
+	public List<OrderDto> unboundedHistory() {
+		return orderService.findBySellerWithCustomerAndItems(SELLER_ID);
+	}
+}
@@ -0,0 +1,107 @@
+package com.sunbeam.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sunbeam.BenchmarkApplication;
+import com.sunbeam.dto.OrderDto;
+import com.sunbeam.dto.OrderItemDto;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * createOrder for 1, 10 n 100 item baskets, with Hibernate JDBC batching off (batch size 1) n on (50).
+ * Every order is flushed n rolled back, so stock n the order tables stay the same between calls.
+ * H2 runs in process - against MySQL each saved round trip also saves a network hop.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks=OrderWriteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class OrderWriteBenchmark {
+
+	private static final int FIRST_PRODUCT_ID = 1001;
+
+	@Param({ "1", "10", "100" })
+	public int items;
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	private ConfigurableApplicationContext context;
+	private OrderService orderService;
+	private TransactionTemplate transactionTemplate;
+	private EntityManager entityManager;
+	private OrderDto order;
+
+	@Setup
+	public void start() {
+		context = BenchmarkApplication.start("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+		orderService = context.getBean(OrderService.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		entityManager = context.getBean(EntityManager.class);
+
+		// seller 1 gets enough products for the largest basket
+		List<Object[]> products = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			products.add(new Object[] { FIRST_PRODUCT_ID + i, "Product " + i });
+		}
+		context.getBean(JdbcTemplate.class).batchUpdate("INSERT INTO products (product_id, name, description, price, unit,"
+				+ " stock, image_url, category_id, seller_id, created_at)"
+				+ " VALUES (?, ?, 'bench', 10.00, 'kg', 1000000, '/b.jpg', 1, 1, NOW())", products);
+
+		order = new OrderDto();
+		order.setCustomerId(1);
+		order.setSellerId(1);
+		order.setTotalAmount(new BigDecimal(10 * items));
+		order.setCreatedAt(LocalDateTime.now());
+		List<OrderItemDto> lines = new ArrayList<>();
+		for (int i = 0; i < items; i++) {
+			OrderItemDto line = new OrderItemDto();
+			line.setProductId(FIRST_PRODUCT_ID + i);
+			line.setQuantity(1);
+			line.setPricePerUnit(new BigDecimal("10.00"));
+			line.setCreatedAt(LocalDateTime.now());
+			lines.add(line);
+		}
+		order.setOrderItems(lines);
+	}
+
+	@TearDown
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public OrderDto createOrder() {
+		return transactionTemplate.execute(status -> {
+			OrderDto created = orderService.createOrder(order);
+			entityManager.flush();
+			status.setRollbackOnly();
+			return created;
+		});
+	}
+}
@@ -0,0 +1,99 @@
+package com.sunbeam.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sunbeam.BenchmarkApplication;
+import com.sunbeam.dto.ProductDto;
+
+/**
+ * Paged, filtered product search (GET /api/products/search) as the catalog grows: a name term, a
+ * category with a price band n a stock floor with a unit. Every call asks for one 20 row page, so
+ * the rows returned stay the same while the table behind them grows.
+ *
+ * mvn -Pperf test-compile exec:exec -Dperf.benchmarks=ProductSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgs = { "-Xms3g", "-Xmx3g" })
+public class ProductSearchBenchmark {
+
+	private static final int FIRST_PRODUCT_ID = 1000;
+	private static final String[] NAMES = { "Tomatoes", "Onions", "Potatoes", "Milk", "Paneer", "Curd", "Spinach",
+			"Carrots", "Ghee", "Butter" };
+	private static final String[] UNITS = { "kg", "liter", "piece", "pack" };
+
+	@Param({ "10000", "100000", "1000000" })
+	public int products;
+
+	private ConfigurableApplicationContext context;
+	private ProductService productService;
+	private final Pageable firstPage = PageRequest.of(0, 20);
+
+	@Setup
+	public void start() {
+		context = BenchmarkApplication.start();
+		productService = context.getBean(ProductService.class);
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		Random random = new Random(42);
+		for (int start = 0; start < products; start += 10_000) {
+			List<Object[]> rows = new ArrayList<>();
+			for (int i = start; i < Math.min(start + 10_000, products); i++) {
+				String name = NAMES[random.nextInt(NAMES.length)];
+				rows.add(new Object[] { FIRST_PRODUCT_ID + i, name + " " + i, "fresh " + name.toLowerCase(),
+						new BigDecimal(10 + random.nextInt(190)), UNITS[random.nextInt(UNITS.length)],
+						random.nextInt(500), 1 + random.nextInt(2), 1 + random.nextInt(2) });
+			}
+			jdbcTemplate.batchUpdate("INSERT INTO products (product_id, name, description, price, unit, stock,"
+					+ " image_url, category_id, seller_id, created_at) VALUES (?, ?, ?, ?, ?, ?, '/b.jpg', ?, ?, NOW())",
+					rows);
+		}
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@TearDown
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public Page<ProductDto> nameTerm() {
+		return productService.searchProducts("paneer", null, null, null, null, null, firstPage);
+	}
+
+	@Benchmark
+	public Page<ProductDto> categoryAndPriceBand() {
+		return productService.searchProducts(null, "dairy", new BigDecimal("50"), new BigDecimal("80"), null, null,
+				firstPage);
+	}
+
+	@Benchmark
+	public Page<ProductDto> stockFloorAndUnit() {
+		return productService.searchProducts(null, null, null, null, 400, "liter", firstPage);
+	}
+}
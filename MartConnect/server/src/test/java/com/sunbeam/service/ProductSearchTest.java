@@ -0,0 +1,40 @@
+package com.sunbeam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sunbeam.dto.ProductDto;
+
+/**
+ * Search filters run as SQL LIKE predicates; wildcards typed by the user match literally.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductSearchTest {
+
+	@Autowired
+	private ProductService productService;
+
+	@Test
+	void categoryAndPriceFiltersAreCombined() {
+		assertThat(productService.searchProducts(null, "vegetab", new BigDecimal("40"), null, null, null,
+				PageRequest.of(0, 20)).getContent())
+				.extracting(ProductDto::getName)
+				.containsExactly("Fresh Tomatoes");
+	}
+
+	@Test
+	void wildcardsInTheTermMatchLiterally() {
+		assertThat(productService.searchProducts("%", null, null, null, null, null, PageRequest.of(0, 20))).isEmpty();
+		assertThat(productService.searchProducts("_", null, null, null, null, null, PageRequest.of(0, 20))).isEmpty();
+		assertThat(productService.searchProducts("tom", null, null, null, null, null, PageRequest.of(0, 20))
+				.getContent()).extracting(ProductDto::getName).containsExactly("Fresh Tomatoes");
+	}
+}
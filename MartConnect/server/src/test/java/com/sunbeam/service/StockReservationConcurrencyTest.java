@@ -0,0 +1,140 @@
+package com.sunbeam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sunbeam.custom_exceptions.InvalidInputException;
+
+/**
+ * Many checkouts racing for the same rows: the conditional UPDATE must never let stock go
+ * below zero, and every unit that left stock must belong to a reservation that succeeded.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StockReservationConcurrencyTest {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private StockReservationService stockReservationService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void restoreStock() {
+		setStock(1, 100);
+		setStock(2, 5);
+		setStock(3, 50);
+	}
+
+	@Test
+	void lastUnitsGoToExactlyAsManyBuyersAsThereIsStock() throws Exception {
+		setStock(2, 50);
+		AtomicInteger rejected = new AtomicInteger();
+
+		List<Boolean> results = race(200, attempt -> {
+			try {
+				transactionTemplate.executeWithoutResult(status -> stockReservationService.reserve(Map.of(2, 1)));
+				return true;
+			} catch (InvalidInputException e) {
+				rejected.incrementAndGet();
+				return false;
+			}
+		});
+
+		assertThat(results.stream().filter(Boolean::booleanValue).count()).isEqualTo(50);
+		assertThat(rejected.get()).isEqualTo(150);
+		assertThat(stock(2)).isZero();
+	}
+
+	@Test
+	void multiProductBasketsTakeExactlyWhatSucceededAndNeverGoNegative() throws Exception {
+		setStock(1, 120);
+		setStock(3, 80);
+		AtomicInteger takenFromFirst = new AtomicInteger();
+		AtomicInteger takenFromThird = new AtomicInteger();
+
+		race(300, attempt -> {
+			Random random = new Random(attempt);
+			int first = 1 + random.nextInt(3);
+			int third = 1 + random.nextInt(3);
+			// half of the baskets list the products in the opposite order
+			Map<Integer, Integer> basket = attempt % 2 == 0 ? Map.of(1, first, 3, third) : Map.of(3, third, 1, first);
+			try {
+				transactionTemplate.executeWithoutResult(status -> stockReservationService.reserve(basket));
+			} catch (InvalidInputException e) {
+				// short on one product - nothing may have been taken from the other
+				return false;
+			}
+			takenFromFirst.addAndGet(first);
+			takenFromThird.addAndGet(third);
+			return true;
+		});
+
+		assertThat(stock(1)).isNotNegative().isEqualTo(120 - takenFromFirst.get());
+		assertThat(stock(3)).isNotNegative().isEqualTo(80 - takenFromThird.get());
+		// every basket needs both products, so demand runs until the scarcer one is drained
+		assertThat(Math.min(stock(1), stock(3))).isLessThan(3);
+	}
+
+	// every attempt waits on the same start signal so they hit the rows together
+	private static List<Boolean> race(int attempts, AttemptTask task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < attempts; i++) {
+				int attempt = i;
+				Callable<Boolean> call = () -> {
+					start.await();
+					return task.run(attempt);
+				};
+				futures.add(executor.submit(call));
+			}
+			start.countDown();
+			List<Boolean> results = new ArrayList<>();
+			for (Future<Boolean> future : futures) {
+				results.add(future.get(60, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void setStock(int productId, int stock) {
+		jdbcTemplate.update("UPDATE products SET stock = ? WHERE product_id = ?", stock, productId);
+	}
+
+	private int stock(int productId) {
+		return jdbcTemplate.queryForObject("SELECT stock FROM products WHERE product_id = ?", Integer.class, productId);
+	}
+
+	@FunctionalInterface
+	private interface AttemptTask {
+		boolean run(int attempt) throws Exception;
+	}
+}
@@ -0,0 +1,20 @@
+-- password for every account: pass
+INSERT INTO sellers (seller_id, first_name, last_name, email, phone, password, shop_name, shop_address, created_at) VALUES
+(1, 'Rajesh', 'Patel', 'seller@x.com', '9876543211', '$2a$10$COEnOF5ZQQu4hswvuMg3IujI1X/u//OcXRwqkNLNEUo34hrVHDt/K', 'FreshMart', 'Mumbai', NOW()),
+(2, 'Priya', 'Shah', 'seller2@x.com', '9876543212', '$2a$10$COEnOF5ZQQu4hswvuMg3IujI1X/u//OcXRwqkNLNEUo34hrVHDt/K', 'Organic', 'Pune', NOW());
+INSERT INTO customers (customer_id, first_name, last_name, email, phone, address, password, created_at) VALUES
+(1, 'Arjun', 'Reddy', 'cust@x.com', '9876501235', 'Baner', '$2a$10$COEnOF5ZQQu4hswvuMg3IujI1X/u//OcXRwqkNLNEUo34hrVHDt/K', NOW()),
+(2, 'Kavya', 'Iyer', 'cust2@x.com', '9876501236', 'Worli', '$2a$10$COEnOF5ZQQu4hswvuMg3IujI1X/u//OcXRwqkNLNEUo34hrVHDt/K', NOW());
+INSERT INTO categories (category_id, name, description, created_at) VALUES
+(1, 'Vegetables', 'Fresh farm vegetables', NOW()),
+(2, 'Dairy', 'Fresh dairy and milk products', NOW());
+INSERT INTO products (product_id, name, description, price, unit, stock, image_url, category_id, seller_id, created_at) VALUES
+(1, 'Fresh Tomatoes', 'red tomatoes', 45.00, 'kg', 100, '/t.jpg', 1, 1, NOW()),
+(2, 'Onions', 'white onions', 35.50, 'kg', 5, '/o.jpg', 1, 1, NOW()),
+(3, 'Milk', 'cow milk', 65.00, 'liter', 50, '/m.jpg', 2, 2, NOW()),
+(4, 'Potatoes', 'new potatoes', 30.00, 'kg', 80, '/p.jpg', 1, 1, NOW());
+INSERT INTO orders (order_id, customer_id, seller_id, total_amount, delivery_charge, payment_status, order_date, transaction_id, created_at) VALUES
+(1, 1, 1, 125.50, 0, 'PAID', '2024-01-15 10:30:00', 'TXN1', NOW()),
+(2, 2, 1, 90.00, 0, 'PAID', '2024-01-16 10:30:00', 'TXN2', NOW());
+INSERT INTO order_items (order_item_id, order_id, product_id, quantity, price_per_unit, created_at) VALUES
+(1, 1, 1, 2, 45.00, NOW()), (2, 1, 2, 1, 35.50, NOW()), (3, 2, 1, 2, 45.00, NOW());